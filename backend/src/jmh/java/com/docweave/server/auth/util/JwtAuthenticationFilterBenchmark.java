@@ -0,0 +1,94 @@
+package com.docweave.server.auth.util;
+
+import com.docweave.server.auth.entity.User;
+import com.docweave.server.auth.repository.UserRepository;
+import com.docweave.server.auth.service.TokenBlacklistReplica;
+import com.docweave.server.auth.service.TokenStorageService;
+import jakarta.servlet.FilterChain;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+// 인증 필터의 요청당 오버헤드 측정 (DB 는 In-memory Stub, 블랙리스트는 로컬 복제본 사용)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-which-is-long-enough-for-hs256";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private UserRepository userRepository;
+    private JwtAuthenticationFilter filter;
+    private String token;
+
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private FilterChain filterChain;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 3_600_000L, 604_800_000L);
+        token = jwtTokenProvider.createAccessToken(1L, "bench@docweave.com", User.Role.USER);
+
+        User user = User.builder()
+                .id(1L)
+                .email("bench@docweave.com")
+                .role(User.Role.USER)
+                .build();
+        userRepository = (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> "findById".equals(method.getName()) ? Optional.of(user) : null);
+
+        // 다른 토큰들이 블랙리스트에 있는 상태에서 로컬 복제본 조회 비용 측정
+        TokenBlacklistReplica blacklistReplica = new TokenBlacklistReplica(null, null, 100_000, 0.01);
+        for (int i = 0; i < 1_000; i++) {
+            blacklistReplica.add(UUID.randomUUID().toString(), System.currentTimeMillis() + 3_600_000L);
+        }
+        TokenStorageService tokenStorageService = new TokenStorageService(null, blacklistReplica);
+
+        JwtPrincipalResolver resolver = new JwtPrincipalResolver(jwtTokenProvider, userRepository, 10_000, 60_000L);
+        filter = new JwtAuthenticationFilter(resolver, tokenStorageService);
+
+        request = new MockHttpServletRequest("GET", "/api/v1/chat/rooms");
+        request.addHeader("Authorization", "Bearer " + token);
+        response = new MockHttpServletResponse();
+        filterChain = (req, res) -> {};
+    }
+
+    @Benchmark
+    public Object cachedFilter() throws Exception {
+        filter.doFilterInternal(request, response, filterChain);
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    @Benchmark
+    public Object singleParse() {
+        return jwtTokenProvider.parseClaims(token);
+    }
+
+    // 기존 방식: validateToken + getUserIdFromToken 으로 두 번 파싱 후 매 요청 사용자 조회
+    @Benchmark
+    public void legacyDoubleParse(Blackhole blackhole) {
+        if (jwtTokenProvider.validateToken(token)) {
+            Long userId = jwtTokenProvider.getUserIdFromToken(token);
+            blackhole.consume(userRepository.findById(userId));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.docweave.server.doc.service.component.chunker;
+
+import com.docweave.server.common.constant.EmbeddingConstant;
+import com.docweave.server.doc.service.component.parser.HtmlToMarkdownConverter;
+import com.vladsch.flexmark.html2md.converter.FlexmarkHtmlConverter;
+import com.vladsch.flexmark.util.data.MutableDataSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.transformer.splitter.TokenTextSplitter;
+
+// 수집 파이프라인의 변환 + Chunking 비용 측정 (입력 약 1MB, gc 프로파일러로 MB 당 할당량 확인)
+// Tika 는 페이지 단위 XHTML 을 여러 번 변환하므로 변환은 작은 조각 단위로 반복 호출
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IngestionChunkingBenchmark {
+
+    private static final int TARGET_BYTES = 1024 * 1024;
+
+    private HtmlToMarkdownConverter sharedConverter;
+    private HierarchicalTokenChunker chunker;
+    private StructureAwareChunker structureChunker;
+    private List<String> htmlPages;
+    private String markdown;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sharedConverter = new HtmlToMarkdownConverter();
+        chunker = new HierarchicalTokenChunker();
+        structureChunker = new StructureAwareChunker();
+
+        Random random = new Random(42);
+        String[] words = {"문서", "분석", "결과", "retrieval", "augmented", "generation", "데이터", "모델",
+                "embedding", "vector", "검색", "질문", "답변", "context", "token", "chunk"};
+
+        htmlPages = new ArrayList<>();
+        StringBuilder all = new StringBuilder();
+        int bytes = 0;
+        while (bytes < TARGET_BYTES) {
+            StringBuilder page = new StringBuilder("<h2>Section ").append(htmlPages.size()).append("</h2>");
+            for (int p = 0; p < 6; p++) {
+                page.append("<p>");
+                for (int w = 0; w < 60; w++) {
+                    page.append(words[random.nextInt(words.length)]);
+                    page.append(w % 12 == 11 ? ". " : " ");
+                }
+                page.append("</p>");
+            }
+            String html = page.toString();
+            htmlPages.add(html);
+            all.append(sharedConverter.convert(html)).append("\n\n");
+            bytes += html.getBytes().length;
+        }
+        markdown = all.toString();
+    }
+
+    @Benchmark
+    public int sharedConverter() {
+        int length = 0;
+        for (String html : htmlPages) length += sharedConverter.convert(html).length();
+        return length;
+    }
+
+    // 기존 방식: 호출마다 옵션과 변환기를 새로 생성
+    @Benchmark
+    public int perCallConverter() {
+        int length = 0;
+        for (String html : htmlPages) {
+            MutableDataSet options = new MutableDataSet();
+            options.set(FlexmarkHtmlConverter.SKIP_ATTRIBUTES, true);
+            options.set(FlexmarkHtmlConverter.BR_AS_PARA_BREAKS, false);
+            options.set(FlexmarkHtmlConverter.TYPOGRAPHIC_QUOTES, false);
+            options.set(FlexmarkHtmlConverter.RENDER_COMMENTS, false);
+            options.set(FlexmarkHtmlConverter.DOT_ONLY_NUMERIC_LISTS, false);
+            length += FlexmarkHtmlConverter.builder(options).build().convert(html).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public int hierarchicalChunker() {
+        int children = 0;
+        for (ParentChunk parent : chunker.split(markdown)) {
+            children += parent.children().size();
+        }
+        return children;
+    }
+
+    @Benchmark
+    public int structureAwareChunker() {
+        int children = 0;
+        for (ParentChunk parent : structureChunker.split(markdown)) {
+            children += parent.children().size();
+        }
+        return children;
+    }
+
+    // 기존 방식: Parent 분할 후 Parent 마다 Splitter 를 새로 만들어 다시 토큰화
+    @Benchmark
+    public int nestedTokenTextSplitter() {
+        TokenTextSplitter parentSplitter = new TokenTextSplitter(EmbeddingConstant.PARENT_CHUNK_SIZE, 100, 10, 1000, true);
+        List<Document> parents = parentSplitter.apply(List.of(new Document(markdown, Map.of())));
+
+        int children = 0;
+        for (Document parent : parents) {
+            TokenTextSplitter childSplitter = new TokenTextSplitter(EmbeddingConstant.CHILD_CHUNK_SIZE, 50, 10, 100, true);
+            children += childSplitter.apply(List.of(parent)).size();
+        }
+        return children;
+    }
+}
@@ -0,0 +1,106 @@
+package com.docweave.server.doc.service.component.compression;
+
+import com.docweave.server.doc.service.component.chunker.HierarchicalTokenChunker;
+import com.docweave.server.doc.service.component.chunker.ParentChunk;
+import com.github.luben.zstd.ZstdDictCompress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// Parent 저장 형식별 크기 / 읽기 비용 측정 (크기는 Setup 에서 출력, 읽기는 질문 1회분인 Parent 5개 해제)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParentContentCompressionBenchmark {
+
+    private static final int TARGET_BYTES = 1024 * 1024;
+    private static final int PARENTS_PER_QUESTION = 5;
+    private static final long PLAIN_DOC = 1L;
+    private static final long DICT_DOC = 2L;
+
+    private ParentContentCodec codec;
+    private List<byte[]> plain;
+    private List<byte[]> zstd;
+    private List<byte[]> zstdDict;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        codec = new ParentContentCodec(null, "zstd", 6, 16384, 8, 16);
+
+        Random random = new Random(42);
+        String[] words = {"문서", "분석", "결과", "retrieval", "augmented", "generation", "데이터", "모델",
+                "embedding", "vector", "검색", "질문", "답변", "context", "token", "chunk"};
+        StringBuilder markdown = new StringBuilder();
+        int section = 0;
+        while (markdown.length() * 2 < TARGET_BYTES) {
+            markdown.append("## Section ").append(section++).append("\n\n");
+            for (int w = 0; w < 360; w++) {
+                markdown.append(words[random.nextInt(words.length)]).append(w % 12 == 11 ? ". " : " ");
+            }
+            markdown.append("\n\n| 항목 | 값 | 비고 |\n|---|---|---|\n| 정확도 | ").append(random.nextInt(100))
+                    .append(" | 기준 대비 |\n\n");
+        }
+
+        plain = new ArrayList<>();
+        for (ParentChunk parent : new HierarchicalTokenChunker().split(markdown.toString())) {
+            plain.add(parent.content().getBytes(StandardCharsets.UTF_8));
+        }
+
+        // 수집 시와 같이 첫 배치(16개)로 사전 학습
+        byte[] dictionary = codec.trainDictionary(plain.subList(0, Math.min(16, plain.size())));
+        codec.cacheDictionary(PLAIN_DOC, null);
+        codec.cacheDictionary(DICT_DOC, dictionary);
+        ZstdDictCompress compressDictionary = codec.compressionDictionary(dictionary);
+
+        zstd = new ArrayList<>();
+        zstdDict = new ArrayList<>();
+        for (byte[] raw : plain) {
+            zstd.add(codec.compress(raw, null));
+            zstdDict.add(codec.compress(raw, compressDictionary));
+        }
+
+        System.out.printf("%nparents: %d, plain: %d B, zstd: %d B, zstd+dict: %d B (+ dict %d B)%n",
+                plain.size(), total(plain), total(zstd), total(zstdDict), dictionary == null ? 0 : dictionary.length);
+    }
+
+    @Benchmark
+    public int plainText() {
+        int length = 0;
+        for (int i = 0; i < PARENTS_PER_QUESTION; i++) {
+            length += codec.decode(PLAIN_DOC, new String(plain.get(i), StandardCharsets.UTF_8), null, null).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public int zstd() {
+        int length = 0;
+        for (int i = 0; i < PARENTS_PER_QUESTION; i++) {
+            length += codec.decode(PLAIN_DOC, null, zstd.get(i), plain.get(i).length).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public int zstdWithDictionary() {
+        int length = 0;
+        for (int i = 0; i < PARENTS_PER_QUESTION; i++) {
+            length += codec.decode(DICT_DOC, null, zstdDict.get(i), plain.get(i).length).length();
+        }
+        return length;
+    }
+
+    private static long total(List<byte[]> contents) {
+        return contents.stream().mapToLong(content -> content.length).sum();
+    }
+}
@@ -5,6 +5,8 @@ import com.docweave.server.auth.dto.request.SignupRequestDto;
 import com.docweave.server.auth.dto.response.TokenResponseDto;
 import com.docweave.server.auth.entity.User;
 import com.docweave.server.auth.repository.UserRepository;
+import com.docweave.server.auth.util.JwtPrincipalResolver;
+import com.docweave.server.auth.util.JwtPrincipalResolver.VerifiedToken;
 import com.docweave.server.auth.util.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -20,6 +22,7 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final TokenStorageService tokenStorageService;
+    private final JwtPrincipalResolver jwtPrincipalResolver;
 
     @Transactional
     public TokenResponseDto signup(SignupRequestDto request) {
@@ -53,7 +56,12 @@ public class AuthService {
     @Transactional
     public void logout(Long userId, String accessToken) {
         tokenStorageService.deleteRefreshToken(userId);
-        tokenStorageService.blacklistToken(accessToken, 3600);
+
+        // 이미 만료되었거나 유효하지 않은 토큰은 블랙리스트에 올릴 필요 없음
+        VerifiedToken verifiedToken = jwtPrincipalResolver.verify(accessToken);
+        if (verifiedToken != null) {
+            tokenStorageService.blacklistToken(verifiedToken.tokenId(), verifiedToken.expiresAtMillis());
+        }
     }
 
     @Transactional(readOnly = true)
@@ -76,7 +84,7 @@ public class AuthService {
     }
 
     private TokenResponseDto generateTokenResponse(User user) {
-        String accessToken = jwtTokenProvider.createAccessToken(user.getId(), user.getEmail());
+        String accessToken = jwtTokenProvider.createAccessToken(user.getId(), user.getEmail(), user.getRole());
         String refreshToken = jwtTokenProvider.createRefreshToken(user.getId());
 
         tokenStorageService.saveRefreshToken(user.getId(), refreshToken, 604800);
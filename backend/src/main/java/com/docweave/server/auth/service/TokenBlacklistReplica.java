@@ -0,0 +1,145 @@
+package com.docweave.server.auth.service;
+
+import com.docweave.server.auth.util.BloomFilter;
+import com.docweave.server.auth.util.JwtPrincipalResolver;
+import com.docweave.server.common.constant.TokenConstant;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 노드별 In-memory 블랙리스트 복제본 (Bloom Filter + 정확한 집합), Redis Pub/Sub 으로 동기화
+@Slf4j
+@Component
+public class TokenBlacklistReplica implements MessageListener {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private final Map<String, Long> entries = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private volatile BloomFilter bloomFilter;
+
+    public TokenBlacklistReplica(
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${jwt.blacklist.bloom.expected-insertions:100000}") long expectedInsertions,
+            @Value("${jwt.blacklist.bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        if (listenerContainer != null) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(TokenConstant.BLACKLIST_CHANNEL));
+        }
+    }
+
+    // 대부분의 요청은 Bloom Filter 에서 I/O 없이 바로 통과
+    public boolean isBlacklisted(String tokenId) {
+        if (!bloomFilter.mightContain(tokenId)) return false;
+
+        Long expiresAt = entries.get(tokenId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    public void add(String tokenId, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) return;
+
+        synchronized (writeLock) {
+            entries.merge(tokenId, expiresAtMillis, Math::max);
+            bloomFilter.put(tokenId);
+        }
+    }
+
+    public static String encodeMessage(String tokenId, long expiresAtMillis) {
+        return tokenId + ":" + expiresAtMillis;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator <= 0) {
+            log.warn("Malformed blacklist message: {}", body);
+            return;
+        }
+
+        try {
+            add(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("Malformed blacklist message: {}", body);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        resync();
+    }
+
+    // Pub/Sub 메시지 유실(재연결 등)에 대비하여 주기적으로 Redis 전체와 재동기화
+    @Scheduled(initialDelayString = "${jwt.blacklist.resync-interval-ms:300000}",
+            fixedDelayString = "${jwt.blacklist.resync-interval-ms:300000}")
+    public void resync() {
+        long now = System.currentTimeMillis();
+        int loaded = 0;
+
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(TokenConstant.BLACKLIST_PREFIX + "*")
+                .count(1000)
+                .build();
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                Long ttlMillis = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+                if (ttlMillis == null || ttlMillis <= 0) continue;
+
+                add(toTokenId(key.substring(TokenConstant.BLACKLIST_PREFIX.length())), now + ttlMillis);
+                loaded++;
+            }
+            log.info("Token blacklist replica synchronized. entries={}", loaded);
+        } catch (Exception e) {
+            log.error("Failed to synchronize token blacklist replica", e);
+        }
+    }
+
+    // Bloom Filter 는 삭제가 불가능하므로 만료 항목을 정리한 뒤 주기적으로 재구성
+    @Scheduled(fixedDelayString = "${jwt.blacklist.rebuild-interval-ms:60000}")
+    public void rebuild() {
+        long now = System.currentTimeMillis();
+
+        synchronized (writeLock) {
+            entries.values().removeIf(expiresAt -> expiresAt <= now);
+
+            BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, entries.size() * 2L), falsePositiveRate);
+            entries.keySet().forEach(rebuilt::put);
+            bloomFilter = rebuilt;
+        }
+    }
+
+    // jti 도입 이전에 원본 토큰으로 저장된 키는 Digest 로 변환
+    private String toTokenId(String keySuffix) {
+        return keySuffix.indexOf('.') >= 0 ? JwtPrincipalResolver.digest(keySuffix) : keySuffix;
+    }
+}
@@ -12,6 +12,7 @@ import java.util.concurrent.TimeUnit;
 public class TokenStorageService {
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final TokenBlacklistReplica tokenBlacklistReplica;
 
     public void saveRefreshToken(Long userId, String refreshToken, long ttlSeconds) {
         String key = TokenConstant.REFRESH_TOKEN_PREFIX + userId;
@@ -28,13 +29,20 @@ public class TokenStorageService {
         redisTemplate.delete(key);
     }
 
-    public void blacklistToken(String token, long ttlSeconds) {
-        String key = TokenConstant.BLACKLIST_PREFIX + token;
-        redisTemplate.opsForValue().set(key, "blacklisted", ttlSeconds, TimeUnit.SECONDS);
+    // tokenId: jti (jti 가 없는 이전 토큰은 토큰 Digest)
+    public void blacklistToken(String tokenId, long expiresAtMillis) {
+        long ttlMillis = expiresAtMillis - System.currentTimeMillis();
+        if (ttlMillis <= 0) return;
+
+        String key = TokenConstant.BLACKLIST_PREFIX + tokenId;
+        redisTemplate.opsForValue().set(key, "blacklisted", ttlMillis, TimeUnit.MILLISECONDS);
+
+        tokenBlacklistReplica.add(tokenId, expiresAtMillis);
+        redisTemplate.convertAndSend(TokenConstant.BLACKLIST_CHANNEL,
+                TokenBlacklistReplica.encodeMessage(tokenId, expiresAtMillis));
     }
 
-    public boolean isTokenBlacklisted(String token) {
-        String key = TokenConstant.BLACKLIST_PREFIX + token;
-        return redisTemplate.hasKey(key);
+    public boolean isTokenBlacklisted(String tokenId) {
+        return tokenBlacklistReplica.isBlacklisted(tokenId);
     }
 }
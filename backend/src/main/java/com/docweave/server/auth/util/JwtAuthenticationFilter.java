@@ -1,9 +1,8 @@
 package com.docweave.server.auth.util;
 
 import com.docweave.server.auth.dto.common.CustomUserDetailsDto;
-import com.docweave.server.auth.entity.User;
-import com.docweave.server.auth.repository.UserRepository;
 import com.docweave.server.auth.service.TokenStorageService;
+import com.docweave.server.auth.util.JwtPrincipalResolver.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,9 +21,8 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final JwtPrincipalResolver jwtPrincipalResolver;
     private final TokenStorageService tokenStorageService;
-    private final UserRepository userRepository;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -39,19 +37,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)
-                    && !tokenStorageService.isTokenBlacklisted(jwt)) {
-                Long userId = jwtTokenProvider.getUserIdFromToken(jwt);
+            if (StringUtils.hasText(jwt)) {
+                // 서명 검증은 한 번만, 검증 결과는 토큰 만료 시점까지 캐시
+                VerifiedToken verifiedToken = jwtPrincipalResolver.verify(jwt);
 
-                User user = userRepository.findById(userId).orElse(null);
-                if (user != null) {
-                    CustomUserDetailsDto userDetails = new CustomUserDetailsDto(user);
+                if (verifiedToken != null && !tokenStorageService.isTokenBlacklisted(verifiedToken.tokenId())) {
+                    CustomUserDetailsDto userDetails = jwtPrincipalResolver.resolvePrincipal(verifiedToken);
+                    if (userDetails != null) {
+                        UsernamePasswordAuthenticationToken authentication =
+                                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                    }
                 }
             }
         } catch (Exception ex) {
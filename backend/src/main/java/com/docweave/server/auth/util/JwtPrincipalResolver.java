@@ -0,0 +1,125 @@
+package com.docweave.server.auth.util;
+
+import com.docweave.server.auth.dto.common.CustomUserDetailsDto;
+import com.docweave.server.auth.entity.User;
+import com.docweave.server.auth.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 검증된 토큰 Claims 를 토큰 Digest 기준으로 만료 시점까지 캐시하고, Principal 을 DB 조회 없이 구성
+@Slf4j
+@Component
+public class JwtPrincipalResolver {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final UserRepository userRepository;
+    private final int maxCachedTokens;
+    private final long userCacheTtlMs;
+
+    private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+    private final Map<Long, CachedUser> users = new ConcurrentHashMap<>();
+
+    public JwtPrincipalResolver(
+            JwtTokenProvider jwtTokenProvider,
+            UserRepository userRepository,
+            @Value("${jwt.verified-cache.max-size:10000}") int maxCachedTokens,
+            @Value("${jwt.user-cache.ttl-ms:60000}") long userCacheTtlMs) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.userRepository = userRepository;
+        this.maxCachedTokens = maxCachedTokens;
+        this.userCacheTtlMs = userCacheTtlMs;
+    }
+
+    // 유효한 토큰이면 검증 결과 반환 (캐시 적중 시 서명 검증 / 파싱 생략), 아니면 null
+    public VerifiedToken verify(String token) {
+        String digest = digest(token);
+        long now = System.currentTimeMillis();
+
+        VerifiedToken cached = verifiedTokens.get(digest);
+        if (cached != null) {
+            if (cached.expiresAtMillis() > now) return cached;
+            verifiedTokens.remove(digest);
+            return null;
+        }
+
+        Claims claims = jwtTokenProvider.parseClaims(token);
+        if (claims == null) return null;
+
+        VerifiedToken verified = toVerifiedToken(claims, digest);
+        if (verifiedTokens.size() < maxCachedTokens) {
+            verifiedTokens.put(digest, verified);
+        }
+        return verified;
+    }
+
+    public CustomUserDetailsDto resolvePrincipal(VerifiedToken token) {
+        if (token.principal() != null) return token.principal();
+
+        // role Claim 이 없는 이전 토큰은 짧은 TTL 의 사용자 캐시를 거쳐 조회
+        long now = System.currentTimeMillis();
+        CachedUser cachedUser = users.get(token.userId());
+        if (cachedUser != null && cachedUser.expiresAtMillis() > now) return cachedUser.principal();
+
+        User user = userRepository.findById(token.userId()).orElse(null);
+        if (user == null) {
+            users.remove(token.userId());
+            return null;
+        }
+
+        CustomUserDetailsDto principal = new CustomUserDetailsDto(user);
+        users.put(token.userId(), new CachedUser(principal, now + userCacheTtlMs));
+        return principal;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.verified-cache.eviction-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        verifiedTokens.values().removeIf(token -> token.expiresAtMillis() <= now);
+        users.values().removeIf(user -> user.expiresAtMillis() <= now);
+    }
+
+    private VerifiedToken toVerifiedToken(Claims claims, String digest) {
+        Long userId = Long.parseLong(claims.getSubject());
+        String email = claims.get("email", String.class);
+        String role = claims.get("role", String.class);
+
+        CustomUserDetailsDto principal = null;
+        if (role != null && email != null) {
+            principal = new CustomUserDetailsDto(User.builder()
+                    .id(userId)
+                    .email(email)
+                    .role(User.Role.valueOf(role))
+                    .build());
+        }
+
+        // 블랙리스트 키는 jti, jti 가 없는 이전 토큰은 Digest 사용
+        String tokenId = claims.getId() != null ? claims.getId() : digest;
+
+        return new VerifiedToken(tokenId, userId, principal, claims.getExpiration().getTime());
+    }
+
+    public static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public record VerifiedToken(String tokenId, Long userId, CustomUserDetailsDto principal, long expiresAtMillis) {
+    }
+
+    private record CachedUser(CustomUserDetailsDto principal, long expiresAtMillis) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.docweave.server.auth.util;
 
+import com.docweave.server.auth.entity.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -9,12 +10,14 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.UUID;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
     private final long accessTokenValidityMs;
     private final long refreshTokenValidityMs;
 
@@ -23,17 +26,23 @@ public class JwtTokenProvider {
             @Value("${jwt.access-token-validity}") long accessTokenValidityMs,
             @Value("${jwt.refresh-token-validity}") long refreshTokenValidityMs) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        // 파서는 Thread-safe 하므로 한 번만 생성하여 재사용
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
         this.accessTokenValidityMs = accessTokenValidityMs;
         this.refreshTokenValidityMs = refreshTokenValidityMs;
     }
 
-    public String createAccessToken(Long userId, String email) {
+    public String createAccessToken(Long userId, String email, User.Role role) {
         Date now = new Date();
         Date validity = new Date(now.getTime() + accessTokenValidityMs);
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(String.valueOf(userId))
                 .claim("email", email)
+                .claim("role", role.name())
                 .claim("type", "access")
                 .issuedAt(now)
                 .expiration(validity)
@@ -55,21 +64,18 @@ public class JwtTokenProvider {
     }
 
     public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
         return Long.parseLong(claims.getSubject());
     }
 
     public boolean validateToken(String token) {
+        return parseClaims(token) != null;
+    }
+
+    // 서명 검증과 Claims 파싱을 한 번에 수행 (유효하지 않으면 null)
+    public Claims parseClaims(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.error("Invalid JWT signature", e);
         } catch (ExpiredJwtException e) {
@@ -79,6 +85,6 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.error("JWT claims string is empty", e);
         }
-        return false;
+        return null;
     }
 }
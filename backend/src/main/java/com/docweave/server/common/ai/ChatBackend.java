@@ -0,0 +1,87 @@
+package com.docweave.server.common.ai;
+
+import java.util.Arrays;
+import java.util.function.BooleanSupplier;
+import lombok.Getter;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.Prompt;
+
+// 라우팅 대상 Chat 모델과 최근 지연 시간 / 오류율 통계
+public class ChatBackend {
+
+    @Getter
+    private final String name;
+
+    @Getter
+    private final ChatModel chatModel;
+
+    private final long[] latencies;
+    private final long errorHalfLifeMillis;
+
+    private int latencyCount;
+    private int latencyCursor;
+    private double errorRate;
+    private long errorRateUpdatedAt;
+
+    public ChatBackend(String name, ChatModel chatModel, int windowSize, long errorHalfLifeMillis) {
+        this.name = name;
+        this.chatModel = chatModel;
+        this.latencies = new long[windowSize];
+        this.errorHalfLifeMillis = errorHalfLifeMillis;
+    }
+
+    public ChatResponse call(Prompt prompt) {
+        return call(prompt, () -> false);
+    }
+
+    // abandoned: 응답이 더 이상 필요 없어 취소된 호출인지 (Hedge 에서 진 요청의 실패는 오류율에 반영하지 않음)
+    ChatResponse call(Prompt prompt, BooleanSupplier abandoned) {
+        long startedAt = System.nanoTime();
+        try {
+            ChatResponse response = chatModel.call(prompt);
+            recordSuccess((System.nanoTime() - startedAt) / 1_000_000);
+            return response;
+        } catch (RuntimeException e) {
+            if (!abandoned.getAsBoolean()) recordFailure();
+            throw e;
+        }
+    }
+
+    public synchronized boolean hasSamples() {
+        return latencyCount > 0;
+    }
+
+    public synchronized long latencyPercentile(double percentile) {
+        if (latencyCount == 0) return -1;
+
+        long[] samples = Arrays.copyOf(latencies, latencyCount);
+        Arrays.sort(samples);
+        int index = (int) Math.ceil(percentile * samples.length) - 1;
+        return samples[Math.max(0, Math.min(index, samples.length - 1))];
+    }
+
+    // 마지막 갱신 이후 반감기에 따라 감쇠된 오류율 (장애가 지난 Backend 가 다시 선택될 수 있도록)
+    public synchronized double errorRate() {
+        if (errorRate == 0) return 0;
+        long elapsed = System.currentTimeMillis() - errorRateUpdatedAt;
+        return errorRate * Math.pow(0.5, (double) elapsed / errorHalfLifeMillis);
+    }
+
+    private synchronized void recordSuccess(long latencyMillis) {
+        latencies[latencyCursor] = latencyMillis;
+        latencyCursor = (latencyCursor + 1) % latencies.length;
+        latencyCount = Math.min(latencyCount + 1, latencies.length);
+        updateErrorRate(0);
+    }
+
+    private synchronized void recordFailure() {
+        updateErrorRate(1);
+    }
+
+    private void updateErrorRate(double outcome) {
+        double current = errorRate();
+        errorRate = current * 0.8 + outcome * 0.2;
+        errorRateUpdatedAt = System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,195 @@
+package com.docweave.server.common.ai;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.ChatOptions;
+import org.springframework.ai.chat.prompt.Prompt;
+import reactor.core.publisher.Flux;
+
+// 여러 Chat Backend 중 최근 지연 시간과 오류율이 가장 좋은 곳으로 라우팅하고, 선택적으로 Hedged Request 를 보냄
+@Slf4j
+public class RoutingChatModel implements ChatModel {
+
+    private static final double UNMEASURED_LATENCY_MILLIS = 1_000_000_000d;
+
+    private final List<ChatBackend> backends;
+    private final Executor executor;
+    private final Options options;
+
+    public RoutingChatModel(List<ChatBackend> backends, Executor executor, Options options) {
+        if (backends.isEmpty()) throw new IllegalArgumentException("At least one chat backend is required");
+        this.backends = List.copyOf(backends);
+        this.executor = executor;
+        this.options = options;
+    }
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+        List<ChatBackend> ranked = rank();
+
+        if (options.hedgingEnabled() && ranked.size() > 1) {
+            return callHedged(ranked.get(0), ranked.get(1), prompt);
+        }
+        return callWithFailover(ranked, prompt);
+    }
+
+    @Override
+    public Flux<ChatResponse> stream(Prompt prompt) {
+        return rank().get(0).getChatModel().stream(prompt);
+    }
+
+    @Override
+    public ChatOptions getDefaultOptions() {
+        return backends.get(0).getChatModel().getDefaultOptions();
+    }
+
+    // 점수 = p50 지연 시간 × (1 + 오류 가중치 × 오류율). 측정값이 없는 Backend 는 설정 순서대로 뒤에 배치
+    List<ChatBackend> rank() {
+        return backends.stream()
+                .sorted(Comparator.comparingDouble(this::score))
+                .toList();
+    }
+
+    private double score(ChatBackend backend) {
+        double errorFactor = 1 + options.errorPenalty() * backend.errorRate();
+        double latency = backend.hasSamples() ? Math.max(1, backend.latencyPercentile(0.5)) : UNMEASURED_LATENCY_MILLIS;
+        return latency * errorFactor;
+    }
+
+    private ChatResponse callWithFailover(List<ChatBackend> ranked, Prompt prompt) {
+        RuntimeException lastError = null;
+        for (ChatBackend backend : ranked) {
+            try {
+                return backend.call(prompt);
+            } catch (RuntimeException e) {
+                log.warn("Chat backend '{}' failed, trying next backend: {}", backend.getName(), e.getMessage());
+                lastError = e;
+            }
+        }
+        throw lastError;
+    }
+
+    private ChatResponse callHedged(ChatBackend primary, ChatBackend secondary, Prompt prompt) {
+        HedgedCall hedgedCall = new HedgedCall(primary, secondary, prompt);
+        hedgedCall.start();
+        CompletableFuture.delayedExecutor(hedgeDelayMillis(primary), TimeUnit.MILLISECONDS, executor).execute(hedgedCall::fireHedge);
+        return hedgedCall.await(options.hedgeTimeoutMillis());
+    }
+
+    // p95 기반 Hedge 지연 (측정값이 없으면 최대값 사용)
+    long hedgeDelayMillis(ChatBackend primary) {
+        long p95 = primary.latencyPercentile(0.95);
+        if (p95 < 0) return options.maxHedgeDelayMillis();
+        return Math.max(options.minHedgeDelayMillis(), Math.min(p95, options.maxHedgeDelayMillis()));
+    }
+
+    public record Options(boolean hedgingEnabled, long minHedgeDelayMillis, long maxHedgeDelayMillis, double errorPenalty,
+                          long hedgeTimeoutMillis) {
+    }
+
+    // Hedged 호출 한 번의 상태. 진행 중인 요청 수와 Hedge 발송 여부를 같은 잠금 안에서 바꿔,
+    // Hedge 를 보내기로 한 직후 Primary 가 실패해도 남은 요청을 기다리지 않고 실패로 끝나는 일이 없도록 함
+    private final class HedgedCall {
+
+        private final ChatBackend primary;
+        private final ChatBackend secondary;
+        private final Prompt prompt;
+        private final CompletableFuture<ChatResponse> result = new CompletableFuture<>();
+        private final List<FutureTask<ChatResponse>> calls = new ArrayList<>(2);
+
+        private int outstanding;
+        private boolean hedgeFired;
+        private Throwable lastError;
+
+        HedgedCall(ChatBackend primary, ChatBackend secondary, Prompt prompt) {
+            this.primary = primary;
+            this.secondary = secondary;
+            this.prompt = prompt;
+        }
+
+        synchronized void start() {
+            send(primary);
+        }
+
+        synchronized void fireHedge() {
+            if (hedgeFired || result.isDone()) return;
+            hedgeFired = true;
+            log.info("Sending hedged request to '{}' (primary '{}' is slow or failed)", secondary.getName(), primary.getName());
+            try {
+                send(secondary);
+            } catch (RejectedExecutionException e) {
+                log.warn("Hedged request to '{}' was rejected: {}", secondary.getName(), e.getMessage());
+                if (outstanding == 0) result.completeExceptionally(lastError != null ? lastError : e);
+            }
+        }
+
+        ChatResponse await(long timeoutMillis) {
+            try {
+                return result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException cause) throw cause;
+                throw new IllegalStateException(e.getCause());
+            } catch (TimeoutException e) {
+                throw new IllegalStateException("No chat backend responded within " + timeoutMillis + "ms");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for chat backends", e);
+            } finally {
+                cancelAll();
+            }
+        }
+
+        // 진 요청은 응답을 기다리지 않고 중단해 Executor 스레드와 Backend 연결을 바로 돌려줌
+        private synchronized void cancelAll() {
+            result.cancel(false);
+            calls.forEach(call -> call.cancel(true));
+        }
+
+        private void send(ChatBackend backend) {
+            FutureTask<ChatResponse> call = new FutureTask<>(() -> backend.call(prompt, this::answered)) {
+                @Override
+                protected void done() {
+                    settle(this);
+                }
+            };
+            executor.execute(call);
+            outstanding++;
+            calls.add(call);
+        }
+
+        // 다른 요청이 이미 응답해 이 요청은 버려졌는지 (시간 초과로 끝난 경우는 해당하지 않음)
+        private boolean answered() {
+            return result.isDone() && !result.isCompletedExceptionally();
+        }
+
+        private synchronized void settle(FutureTask<ChatResponse> call) {
+            outstanding--;
+            if (call.isCancelled()) return;
+
+            try {
+                result.complete(call.get());
+                return;
+            } catch (ExecutionException e) {
+                lastError = e.getCause();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                lastError = e;
+            }
+
+            // Primary 가 Hedge 지연 전에 실패하면 즉시 Secondary 로 전환
+            fireHedge();
+            if (outstanding == 0) result.completeExceptionally(lastError);
+        }
+    }
+}
@@ -2,4 +2,12 @@ package com.docweave.server.common.constant;
 
 public class RedisConstant {
     public static final String DOC_INGESTION_QUEUE = "doc_ingestion_queue";
+    // Script 가 함께 다루는 Key 는 Redis Cluster 에서 같은 Slot 에 있도록 Hash Tag 사용
+    public static final String DOC_INGESTION_USER_QUEUE_PREFIX = "{doc_ingestion_queue}:user:";
+    public static final String DOC_INGESTION_ACTIVE_USERS = "{doc_ingestion_queue}:active_users";
+    public static final String DOC_INGESTION_ACTIVE_USER_SET = "{doc_ingestion_queue}:active_user_set";
+    public static final String DOC_INGESTION_STATS = "{doc_ingestion_queue}:stats";
+    public static final String DOC_INGESTION_WORKERS = "doc_ingestion_queue:workers";
+    public static final String PARENT_SEGMENT_DROP_CHANNEL = "doc_parent_segment:drop";
+    public static final String DB_USER_WRITE_CHANNEL = "db:user_write";
 }
@@ -3,4 +3,5 @@ package com.docweave.server.common.constant;
 public class TokenConstant {
     public static final String REFRESH_TOKEN_PREFIX = "refresh_token:";
     public static final String BLACKLIST_PREFIX = "blacklist:";
+    public static final String BLACKLIST_CHANNEL = "token_blacklist";
 }
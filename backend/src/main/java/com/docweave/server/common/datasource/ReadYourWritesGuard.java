@@ -0,0 +1,104 @@
+package com.docweave.server.common.datasource;
+
+import com.docweave.server.auth.dto.common.CustomUserDetailsDto;
+import com.docweave.server.common.constant.RedisConstant;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+// 사용자별 마지막 쓰기 시각을 기억해, 복제 지연 시간 안에는 해당 사용자의 읽기를 Primary 로 보냄
+// 다른 노드로 들어온 다음 요청도 같은 판단을 하도록 쓰기 시각을 Redis Pub/Sub 으로 공유
+@Slf4j
+@Component
+@ConditionalOnProperty(name = ReplicaRoutingDataSource.REPLICA_ENABLED_PROPERTY, havingValue = "true")
+public class ReadYourWritesGuard implements MessageListener {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final long windowMillis;
+    private final long maxLagMillis;
+
+    private final Map<Long, Long> lastWrites = new ConcurrentHashMap<>();
+
+    public ReadYourWritesGuard(
+            StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${spring.datasource.replica.read-your-writes-window-ms:2000}") long windowMillis,
+            @Value("${spring.datasource.replica.max-lag-ms:10000}") long maxLagMillis) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.windowMillis = windowMillis;
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        if (listenerContainer != null) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(RedisConstant.DB_USER_WRITE_CHANNEL));
+        }
+    }
+
+    public static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetailsDto user) {
+            return user.getId();
+        }
+        return null;
+    }
+
+    public void markWrite(Long userId) {
+        if (userId == null) return;
+
+        long now = System.currentTimeMillis();
+        Long previous = lastWrites.put(userId, now);
+
+        // 연속된 쓰기마다 알릴 필요는 없으므로 창의 절반이 지났을 때만 전파
+        if (stringRedisTemplate != null && (previous == null || now - previous > windowMillis / 2)) {
+            try {
+                stringRedisTemplate.convertAndSend(RedisConstant.DB_USER_WRITE_CHANNEL, userId + ":" + now);
+            } catch (Exception e) {
+                log.debug("Failed to publish user write. userId: {}", userId, e);
+            }
+        }
+    }
+
+    // 관측된 복제 지연이 설정한 창보다 길면 지연만큼 Primary 에서 읽음
+    public boolean mustReadPrimary(Long userId, long replicaLagMillis) {
+        if (userId == null) return false;
+
+        Long lastWrite = lastWrites.get(userId);
+        return lastWrite != null && System.currentTimeMillis() - lastWrite < Math.max(windowMillis, replicaLagMillis);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        try {
+            lastWrites.merge(Long.parseLong(body.substring(0, separator)),
+                    Long.parseLong(body.substring(separator + 1)), Math::max);
+        } catch (RuntimeException e) {
+            log.warn("Malformed user write message: {}", body);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${spring.datasource.replica.read-your-writes-window-ms:2000}")
+    public void evictExpired() {
+        // 창이 지난 기록은 더 이상 판단에 쓰이지 않음 (지연이 max-lag 를 넘는 Replica 는 쓰지 않으므로 그 이상 보관할 필요 없음)
+        long threshold = System.currentTimeMillis() - Math.max(windowMillis, maxLagMillis);
+        lastWrites.values().removeIf(lastWrite -> lastWrite < threshold);
+    }
+}
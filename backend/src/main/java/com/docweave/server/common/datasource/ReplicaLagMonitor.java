@@ -0,0 +1,46 @@
+package com.docweave.server.common.datasource;
+
+import com.docweave.server.common.datasource.ReplicaRoutingDataSource.Replica;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Replica 별 복제 지연을 주기적으로 측정, 지연이 max-lag 를 넘거나 조회에 실패하면 다시 따라잡을 때까지 제외
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = ReplicaRoutingDataSource.REPLICA_ENABLED_PROPERTY, havingValue = "true")
+public class ReplicaLagMonitor {
+
+    // 받은 WAL 을 모두 재생했으면 지연 0 (쓰기가 없는 동안 replay 시각이 오래되어도 지연으로 보지 않음)
+    private static final String LAG_QUERY = "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000, 0) END";
+
+    private final ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Value("${spring.datasource.replica.max-lag-ms:10000}")
+    private long maxLagMillis;
+
+    @Scheduled(fixedDelayString = "${spring.datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        for (Replica replica : replicaRoutingDataSource.getReplicas()) {
+            try {
+                Number lag = new JdbcTemplate(replica.getDataSource()).queryForObject(LAG_QUERY, Number.class);
+                long lagMillis = lag == null ? 0 : lag.longValue();
+                boolean healthy = lagMillis <= maxLagMillis;
+
+                if (healthy != replica.isHealthy()) {
+                    log.warn("Replica {} is now {}. lag: {}ms", replica.getKey(), healthy ? "in use" : "excluded", lagMillis);
+                }
+                replica.update(healthy, lagMillis);
+            } catch (Exception e) {
+                if (replica.isHealthy()) log.warn("Replica {} is unreachable, excluding", replica.getKey(), e);
+                replica.update(false, 0);
+            }
+        }
+    }
+}
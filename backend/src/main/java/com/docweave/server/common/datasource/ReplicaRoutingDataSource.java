@@ -0,0 +1,120 @@
+package com.docweave.server.common.datasource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import lombok.Getter;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 읽기 전용 트랜잭션은 Replica 로, 그 외(쓰기 / 트랜잭션 밖)는 Primary 로 보냄
+// 트랜잭션 속성이 정해진 뒤 연결을 고르도록 반드시 LazyConnectionDataSourceProxy 로 감싸서 사용
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String REPLICA_ENABLED_PROPERTY = "spring.datasource.replica.enabled";
+    static final String PRIMARY = "primary";
+
+    private final List<Replica> replicas;
+    private final ReadYourWritesGuard readYourWritesGuard;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicaDataSources,
+                                    ReadYourWritesGuard readYourWritesGuard) {
+        this.readYourWritesGuard = readYourWritesGuard;
+        this.replicas = IntStream.range(0, replicaDataSources.size())
+                .mapToObj(i -> new Replica("replica-" + i, replicaDataSources.get(i)))
+                .toList();
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicas.forEach(replica -> targets.put(replica.key, replica.dataSource));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) return PRIMARY;
+
+        Long userId = ReadYourWritesGuard.currentUserId();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registerWriteMark(userId);
+            return PRIMARY;
+        }
+
+        // 방금 쓴 사용자는 Replica 반영 전일 수 있으므로 Primary 에서 읽음
+        if (readYourWritesGuard.mustReadPrimary(userId, maxHealthyLagMillis())) return PRIMARY;
+
+        int size = replicas.size();
+        int start = Math.floorMod(cursor.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) return replica.key;
+        }
+        return PRIMARY;
+    }
+
+    // 쓰기 시각은 연결을 얻을 때가 아니라 커밋된 뒤에 기록 (롤백된 트랜잭션은 기록하지 않음)
+    private void registerWriteMark(Long userId) {
+        if (userId == null || !TransactionSynchronizationManager.isSynchronizationActive()) return;
+        boolean registered = TransactionSynchronizationManager.getSynchronizations().stream()
+                .anyMatch(synchronization -> synchronization instanceof WriteMark);
+        if (!registered) TransactionSynchronizationManager.registerSynchronization(new WriteMark(userId));
+    }
+
+    // Replica 연결 풀은 Bean 이 아니므로 종료 시 직접 정리
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) closeable.close();
+        }
+    }
+
+    private long maxHealthyLagMillis() {
+        long max = 0;
+        for (Replica replica : replicas) {
+            if (replica.healthy) max = Math.max(max, replica.lagMillis);
+        }
+        return max;
+    }
+
+    private final class WriteMark implements TransactionSynchronization {
+
+        private final Long userId;
+
+        private WriteMark(Long userId) {
+            this.userId = userId;
+        }
+
+        @Override
+        public void afterCommit() {
+            readYourWritesGuard.markWrite(userId);
+        }
+    }
+
+    @Getter
+    public static final class Replica {
+
+        private final String key;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+        private volatile long lagMillis;
+
+        private Replica(String key, DataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+        }
+
+        void update(boolean healthy, long lagMillis) {
+            this.healthy = healthy;
+            this.lagMillis = lagMillis;
+        }
+    }
+}
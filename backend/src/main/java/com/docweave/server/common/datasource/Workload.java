@@ -0,0 +1,40 @@
+package com.docweave.server.common.datasource;
+
+import java.util.function.Supplier;
+
+// 현재 스레드가 처리 중인 작업 종류, DB Connection Pool 선택에 사용 (표시가 없는 스레드는 INTERACTIVE)
+public enum Workload {
+    INTERACTIVE,
+    INGESTION;
+
+    private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+    public static Workload current() {
+        Workload workload = CURRENT.get();
+        return workload != null ? workload : INTERACTIVE;
+    }
+
+    public <T> T call(Supplier<T> task) {
+        Workload previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return task.get();
+        } finally {
+            if (previous != null) CURRENT.set(previous);
+            else CURRENT.remove();
+        }
+    }
+
+    // Executor 의 TaskDecorator 로 사용
+    public Runnable decorate(Runnable task) {
+        return () -> call(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    // 예약한 스레드의 작업 종류를 실행 스레드로 이어받음 (Reactor Scheduler Hook 으로 사용)
+    public static Runnable propagate(Runnable task) {
+        return current().decorate(task);
+    }
+}
@@ -0,0 +1,19 @@
+package com.docweave.server.common.datasource;
+
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+// 작업 종류별로 분리된 Connection Pool 사용 (수집 트랜잭션이 몰려도 대화 요청의 Connection 대기에 영향 없음)
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource {
+
+    public WorkloadRoutingDataSource(DataSource interactive, DataSource ingestion) {
+        setTargetDataSources(Map.of(Workload.INTERACTIVE, interactive, Workload.INGESTION, ingestion));
+        setDefaultTargetDataSource(interactive);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return Workload.current();
+    }
+}
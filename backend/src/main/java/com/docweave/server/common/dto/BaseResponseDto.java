@@ -34,4 +34,12 @@ public class BaseResponseDto<T> {
                 .data(ErrorResponseDto.of(errorCode))
                 .build();
     }
+
+    public static BaseResponseDto<ErrorResponseDto> fail(ErrorCode errorCode, long retryAfterSeconds) {
+        return BaseResponseDto.<ErrorResponseDto>builder()
+                .statusCode(errorCode.getCode())
+                .message("Fail")
+                .data(ErrorResponseDto.of(errorCode, retryAfterSeconds))
+                .build();
+    }
 }
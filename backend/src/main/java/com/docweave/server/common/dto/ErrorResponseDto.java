@@ -1,6 +1,7 @@
 package com.docweave.server.common.dto;
 
 import com.docweave.server.common.exception.ErrorCode;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Data;
 
@@ -11,6 +12,10 @@ public class ErrorResponseDto {
     private final String statusCodeName;
     private final String detailMessage;
 
+    // 재시도 가능한 오류일 때만 포함
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long retryAfterSeconds;
+
     public static ErrorResponseDto of(ErrorCode errorCode) {
         return ErrorResponseDto.builder()
                 .statusCode(errorCode.getCode())
@@ -18,4 +23,13 @@ public class ErrorResponseDto {
                 .detailMessage(errorCode.getMessage())
                 .build();
     }
+
+    public static ErrorResponseDto of(ErrorCode errorCode, long retryAfterSeconds) {
+        return ErrorResponseDto.builder()
+                .statusCode(errorCode.getCode())
+                .statusCodeName(errorCode.getName())
+                .detailMessage(errorCode.getMessage())
+                .retryAfterSeconds(retryAfterSeconds)
+                .build();
+    }
 }
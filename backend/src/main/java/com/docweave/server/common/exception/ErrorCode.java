@@ -9,12 +9,16 @@ public enum ErrorCode {
     // Global (10000 - 19999)
     INTERNAL_SERVER_ERROR(10000, "INTERNAL_SERVER_ERROR", "서버 내부 오류가 발생했습니다."),
     INVALID_INPUT_VALUE(10001, "INVALID_INPUT_VALUE", "입력값이 올바르지 않습니다."),
+    TOO_MANY_REQUESTS(10002, "TOO_MANY_REQUESTS", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
 
     // File Upload (20000 ~)
     FILE_EMPTY(20000, "FILE_EMPTY", "업로드된 파일이 비어있습니다."),
     FILE_UPLOAD_FAILED(20001, "FILE_UPLOAD_FAILED", "파일 업로드 처리에 실패했습니다."),
-    INVALID_FILE_EXTENSION(20002, "INVALID_FILE_EXTENSION", "지원하지 않는 파일 형식입니다. PDF만 가능합니다."),
+    INVALID_FILE_EXTENSION(20002, "INVALID_FILE_EXTENSION", "지원하지 않는 파일 형식입니다. PDF, DOCX, HTML, Markdown, TXT 파일만 가능합니다."),
     FILE_SIZE_EXCEEDED(20003, "FILE_SIZE_EXCEEDED", "파일 크기가 허용 범위를 초과했습니다."),
+    INGESTION_OVERLOADED(20004, "INGESTION_OVERLOADED", "문서 처리 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요."),
+    TEMP_STORAGE_EXHAUSTED(20005, "TEMP_STORAGE_EXHAUSTED", "업로드 저장 공간이 부족합니다. 잠시 후 다시 시도해주세요."),
+    TOO_MANY_FILES(20006, "TOO_MANY_FILES", "한 번에 업로드할 수 있는 파일 수를 초과했습니다."),
 
     // AI & RAG (30000 ~)
     AI_SERVICE_ERROR(30000, "AI_SERVICE_ERROR", "AI 모델 호출 중 오류가 발생했습니다."),
@@ -23,7 +27,8 @@ public enum ErrorCode {
     GUARDRAIL_BLOCKED(30003, "GUARDRAIL_BLOCKED", "AI 답변이 신뢰성 기준을 충족하지 못해 차단되었습니다."),
 
     // ChatRoom (40000 ~)
-    CHATROOM_NOT_FOUND(40000, "CHATROOM_NOT_FOUND", "존재하지 않는 채팅방입니다.");
+    CHATROOM_NOT_FOUND(40000, "CHATROOM_NOT_FOUND", "존재하지 않는 채팅방입니다."),
+    INGESTION_GROUP_NOT_FOUND(40001, "INGESTION_GROUP_NOT_FOUND", "존재하지 않는 일괄 업로드입니다.");
 
     private final int code;
     private final String name;
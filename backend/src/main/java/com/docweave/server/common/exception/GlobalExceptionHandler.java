@@ -6,8 +6,13 @@ import com.docweave.server.doc.exception.AiProcessingException;
 import com.docweave.server.doc.exception.ChatRoomFindingException;
 import com.docweave.server.doc.exception.FileHandlingException;
 import com.docweave.server.doc.exception.GuardrailException;
+import com.docweave.server.doc.exception.IngestionBackpressureException;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
@@ -39,6 +44,15 @@ public class GlobalExceptionHandler {
         return BaseResponseDto.fail(e.getErrorCode());
     }
 
+    @ExceptionHandler(IngestionBackpressureException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public BaseResponseDto<ErrorResponseDto> handleIngestionBackpressureException(
+            IngestionBackpressureException e, HttpServletResponse response) {
+        log.warn("Ingestion Backpressure: {}", e.getMessage());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+        return BaseResponseDto.fail(e.getErrorCode(), e.getRetryAfterSeconds());
+    }
+
     @ExceptionHandler(Exception.class)
     public BaseResponseDto<ErrorResponseDto> handleException(Exception e) {
         log.error("Unhandled Exception: ", e);
@@ -0,0 +1,60 @@
+package com.docweave.server.common.ratelimit;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+// Redis 에 저장되는 공유 Token Bucket (모든 노드가 같은 버킷에서 토큰을 임대)
+@Component
+@RequiredArgsConstructor
+public class DistributedTokenBucket {
+
+    private static final String KEY_PREFIX = "rate_limit:";
+
+    // 서버 간 시계 차이를 피하기 위해 Redis TIME 기준으로 충전량 계산
+    // ARGV[4]: 노드가 쓰지 못하고 돌려주는 토큰 수 (만료된 임대분)
+    // 반환: {임대된 토큰 수, 다음 토큰까지 대기 시간(ms)}
+    private static final RedisScript<List> LEASE_SCRIPT = new DefaultRedisScript<>("""
+            local t = redis.call('TIME')
+            local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+            local capacity = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local requested = tonumber(ARGV[3])
+            local returned = tonumber(ARGV[4])
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(state[1]) or capacity
+            local ts = tonumber(state[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate + returned)
+            local granted = math.min(requested, math.floor(tokens))
+            tokens = tokens - granted
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / rate) + 1000)
+            local wait = 0
+            if granted == 0 then
+                wait = math.ceil((1 - tokens) / rate)
+            end
+            return {granted, wait}
+            """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public Lease lease(String bucketId, RateLimitProperties.Limit limit, int requested, int returned) {
+        double refillPerMs = limit.getRefillPerMinute() / 60_000.0;
+
+        List<?> result = redisTemplate.execute(
+                LEASE_SCRIPT,
+                List.of(KEY_PREFIX + bucketId),
+                String.valueOf(limit.getCapacity()),
+                String.valueOf(refillPerMs),
+                String.valueOf(requested),
+                String.valueOf(returned));
+
+        return new Lease(((Number) result.get(0)).intValue(), ((Number) result.get(1)).longValue());
+    }
+
+    public record Lease(int granted, long retryAfterMillis) {
+    }
+}
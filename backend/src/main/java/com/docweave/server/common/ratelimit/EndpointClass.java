@@ -0,0 +1,30 @@
+package com.docweave.server.common.ratelimit;
+
+import java.util.List;
+import org.springframework.util.AntPathMatcher;
+
+// 요청 제한 단위로 묶은 Endpoint 분류
+public enum EndpointClass {
+    CHAT("POST", List.of("/api/doc/rooms/*/chat")),
+    UPLOAD("POST", List.of("/api/doc/rooms", "/api/doc/rooms/*/files", "/api/doc/rooms/*/files/bulk"));
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final String method;
+    private final List<String> patterns;
+
+    EndpointClass(String method, List<String> patterns) {
+        this.method = method;
+        this.patterns = patterns;
+    }
+
+    public static EndpointClass resolve(String method, String path) {
+        for (EndpointClass endpointClass : values()) {
+            if (!endpointClass.method.equalsIgnoreCase(method)) continue;
+            for (String pattern : endpointClass.patterns) {
+                if (PATH_MATCHER.match(pattern, path)) return endpointClass;
+            }
+        }
+        return null;
+    }
+}
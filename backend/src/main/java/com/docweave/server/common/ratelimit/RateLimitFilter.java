@@ -0,0 +1,143 @@
+package com.docweave.server.common.ratelimit;
+
+import com.docweave.server.auth.dto.common.CustomUserDetailsDto;
+import com.docweave.server.auth.entity.User;
+import com.docweave.server.common.dto.BaseResponseDto;
+import com.docweave.server.common.exception.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// 사용자 + Endpoint 분류별 요청 제한 (JWT 인증 직후, DB / Redis 작업 이전에 거절)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitProperties properties;
+    private final DistributedTokenBucket distributedTokenBucket;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, LocalBucket> localBuckets = new ConcurrentHashMap<>();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        if (!properties.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        EndpointClass endpointClass = EndpointClass.resolve(request.getMethod(), request.getRequestURI());
+        CustomUserDetailsDto principal = currentPrincipal();
+        if (endpointClass == null || principal == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        User.Role role = principal.getUser().getRole();
+        RateLimitProperties.Limit limit = properties.getLimit(role, endpointClass);
+        if (limit == null || limit.getCapacity() <= 0 || limit.getRefillPerMinute() <= 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String bucketId = endpointClass.name().toLowerCase() + ":" + principal.getId();
+        LocalBucket bucket = localBuckets.computeIfAbsent(bucketId, id -> new LocalBucket());
+
+        long retryAfterMillis = bucket.tryAcquire(bucketId, limit);
+        if (retryAfterMillis > 0) {
+            reject(response, endpointClass, retryAfterMillis);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    @Scheduled(fixedDelayString = "${docweave.rate-limit.idle-eviction-ms:600000}")
+    public void evictIdleBuckets() {
+        long threshold = System.currentTimeMillis() - properties.getIdleEvictionMs();
+        localBuckets.values().removeIf(bucket -> bucket.lastUsedAt < threshold);
+    }
+
+    private CustomUserDetailsDto currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetailsDto principal) {
+            return principal;
+        }
+        return null;
+    }
+
+    private void reject(HttpServletResponse response, EndpointClass endpointClass, long retryAfterMillis)
+            throws IOException {
+        Counter.builder("docweave.ratelimit.rejected")
+                .tag("endpoint", endpointClass.name())
+                .register(meterRegistry)
+                .increment();
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        long retryAfterSeconds = Math.max(1, (retryAfterMillis + 999) / 1000);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getWriter(), BaseResponseDto.fail(ErrorCode.TOO_MANY_REQUESTS, retryAfterSeconds));
+    }
+
+    // Redis 에서 임대한 토큰을 로컬에서 소비하고, 소진 시에만 Redis 호출
+    private class LocalBucket {
+        private int permits;
+        private long leaseExpiresAt;
+        private long blockedUntil;
+        private volatile long lastUsedAt = System.currentTimeMillis();
+
+        // 허용 시 0, 거절 시 재시도까지 남은 시간(ms)
+        synchronized long tryAcquire(String bucketId, RateLimitProperties.Limit limit) {
+            long now = System.currentTimeMillis();
+            lastUsedAt = now;
+
+            if (permits > 0 && now < leaseExpiresAt) {
+                permits--;
+                return 0;
+            }
+            if (now < blockedUntil) {
+                return blockedUntil - now;
+            }
+
+            try {
+                int leaseSize = Math.max(1, Math.min(properties.getLeaseSize(), limit.getCapacity()));
+                DistributedTokenBucket.Lease lease = distributedTokenBucket.lease(bucketId, limit, leaseSize, permits);
+                permits = 0;
+                if (lease.granted() > 0) {
+                    permits = lease.granted() - 1;
+                    leaseExpiresAt = now + properties.getLeaseTtlMs();
+                    return 0;
+                }
+                blockedUntil = now + lease.retryAfterMillis();
+                return Math.max(1, lease.retryAfterMillis());
+            } catch (Exception e) {
+                // Redis 장애 시에는 서비스 가용성을 우선하여 통과
+                log.warn("Rate limit lease failed, allowing request. bucket={}", bucketId, e);
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.docweave.server.common.ratelimit;
+
+import com.docweave.server.auth.entity.User;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "docweave.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Redis 에서 한 번에 가져오는 토큰 수 (로컬 Fast Path 크기)
+    private int leaseSize = 5;
+
+    // 임대한 토큰의 유효 시간: 지나면 남은 토큰은 쓰지 않고 다음 임대 때 버킷에 돌려줌
+    // (오래 들고 있던 토큰과 그사이 다시 찬 버킷을 합쳐 Burst 한도를 넘지 않도록)
+    private long leaseTtlMs = 1000;
+
+    private long idleEvictionMs = 600_000;
+
+    private Map<User.Role, Map<EndpointClass, Limit>> roles = new EnumMap<>(User.Role.class);
+
+    public Limit getLimit(User.Role role, EndpointClass endpointClass) {
+        Map<EndpointClass, Limit> limits = roles.get(role);
+        return limits != null ? limits.get(endpointClass) : null;
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+        // 버킷 최대 크기 (Burst 허용량)
+        private int capacity;
+        private int refillPerMinute;
+    }
+}
@@ -0,0 +1,23 @@
+package com.docweave.server.common.storage;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+final class BlobDigest {
+
+    private BlobDigest() {
+    }
+
+    static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    static String toKey(MessageDigest digest) {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
@@ -0,0 +1,119 @@
+package com.docweave.server.common.storage;
+
+import com.docweave.server.common.storage.BlobStore.StagedBlob;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+// 내용 기반 Key 로 Blob 을 공유하므로 참조 수(Redis)를 세어 마지막 참조가 해제될 때만 삭제
+// 승격 + 참조 증가 / 참조 감소 + 삭제는 Key 별 Lock 안에서 수행하여 서로 엇갈리지 않도록 함
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BlobStorageService {
+
+    private static final String REF_PREFIX = "blob_ref:";
+    private static final String LOCK_PREFIX = "blob_lock:";
+    private static final Duration LOCK_TTL = Duration.ofSeconds(30);
+    private static final long LOCK_WAIT_MS = 10_000;
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final BlobStore blobStore;
+    private final StringRedisTemplate redisTemplate;
+
+    public StoredBlob store(InputStream content, long contentLength) throws IOException {
+        StagedBlob stagedBlob = blobStore.stage(content, contentLength);
+        if (contentLength >= 0 && stagedBlob.size() != contentLength) {
+            // 업로드 도중 연결이 끊긴 경우 잘린 파일이 저장되지 않도록 함
+            blobStore.discard(stagedBlob);
+            throw new IOException("Incomplete upload: expected " + contentLength + " bytes, got " + stagedBlob.size());
+        }
+
+        String lockToken = lock(stagedBlob.key());
+        if (lockToken == null) {
+            blobStore.discard(stagedBlob);
+            throw new IOException("Timed out acquiring blob lock: " + stagedBlob.key());
+        }
+
+        try {
+            blobStore.commit(stagedBlob);
+            redisTemplate.opsForValue().increment(REF_PREFIX + stagedBlob.key());
+            return new StoredBlob(stagedBlob.key(), stagedBlob.size());
+        } catch (IOException | RuntimeException e) {
+            blobStore.discard(stagedBlob);
+            throw e;
+        } finally {
+            unlock(stagedBlob.key(), lockToken);
+        }
+    }
+
+    public Resource open(String key) throws IOException {
+        return blobStore.open(key);
+    }
+
+    public long usableSpace() {
+        return blobStore.usableSpace();
+    }
+
+    public void release(String key) {
+        String lockToken = lock(key);
+        if (lockToken == null) {
+            // 삭제보다 잔존이 안전하므로 Lock 을 못 잡으면 정리를 건너뜀
+            log.warn("Skip releasing blob, lock timeout. key: {}", key);
+            return;
+        }
+
+        try {
+            Long remaining = redisTemplate.opsForValue().decrement(REF_PREFIX + key);
+            if (remaining == null || remaining <= 0) {
+                redisTemplate.delete(REF_PREFIX + key);
+                blobStore.delete(key);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to release blob. key: {}", key, e);
+        } finally {
+            unlock(key, lockToken);
+        }
+    }
+
+    private String lock(String key) {
+        String token = UUID.randomUUID().toString();
+        long deadline = System.currentTimeMillis() + LOCK_WAIT_MS;
+
+        while (System.currentTimeMillis() < deadline) {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LOCK_PREFIX + key, token, LOCK_TTL);
+            if (Boolean.TRUE.equals(acquired)) return token;
+
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private void unlock(String key, String token) {
+        redisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_PREFIX + key), token);
+    }
+
+    // size: 실제로 기록된 바이트 수 (길이를 모르는 스트림도 정확한 크기를 남기기 위함)
+    public record StoredBlob(String key, long size) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.docweave.server.common.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import org.springframework.core.io.Resource;
+
+// 업로드 파일 저장소 (모든 노드가 같은 저장소를 바라보므로 어떤 Worker 든 작업 처리 가능)
+// Key 는 내용의 SHA-256 (같은 내용은 한 번만 저장)
+public interface BlobStore {
+
+    // 스트림을 임시 위치에 저장하면서 Hash 계산 (메모리에 전체를 올리지 않음, 길이를 모르면 -1)
+    StagedBlob stage(InputStream content, long contentLength) throws IOException;
+
+    // 임시 저장본을 최종 Key 로 승격 (이미 존재하면 임시본만 제거)
+    void commit(StagedBlob stagedBlob) throws IOException;
+
+    void discard(StagedBlob stagedBlob);
+
+    Resource open(String key) throws IOException;
+
+    void delete(String key) throws IOException;
+
+    // 임시 저장 위치의 남은 공간 (Admission Control 용, 로컬 디스크를 쓰지 않으면 -1)
+    default long usableSpace() {
+        return -1;
+    }
+
+    record StagedBlob(String key, String stagingLocation, long size) {
+    }
+}
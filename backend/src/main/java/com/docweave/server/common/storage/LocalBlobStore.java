@@ -0,0 +1,113 @@
+package com.docweave.server.common.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+// 로컬 디스크 / 공유 볼륨(NFS 등) 기반 저장소
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "docweave.storage.type", havingValue = "local", matchIfMissing = true)
+public class LocalBlobStore implements BlobStore {
+
+    private static final long TRANSFER_CHUNK_BYTES = 1024 * 1024;
+
+    private final Path stagingDir;
+    private final Path blobDir;
+
+    public LocalBlobStore(@Value("${docweave.storage.local.root}") String root) throws IOException {
+        Path rootDir = Path.of(root);
+        this.stagingDir = Files.createDirectories(rootDir.resolve("staging"));
+        this.blobDir = Files.createDirectories(rootDir.resolve("blobs"));
+    }
+
+    @Override
+    public StagedBlob stage(InputStream content, long contentLength) throws IOException {
+        Path stagingPath = stagingDir.resolve(UUID.randomUUID().toString());
+        MessageDigest digest = BlobDigest.newSha256();
+
+        // 요청 스트림 → FileChannel 로 직접 기록 (중간 파일 없이 한 번에)
+        try (ReadableByteChannel source = Channels.newChannel(new DigestInputStream(content, digest));
+             FileChannel target = FileChannel.open(stagingPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            long size = 0;
+            long transferred;
+            while ((transferred = target.transferFrom(source, size, TRANSFER_CHUNK_BYTES)) > 0) {
+                size += transferred;
+            }
+            return new StagedBlob(BlobDigest.toKey(digest), stagingPath.toString(), size);
+        } catch (IOException e) {
+            Files.deleteIfExists(stagingPath);
+            throw e;
+        }
+    }
+
+    @Override
+    public void commit(StagedBlob stagedBlob) throws IOException {
+        Path stagingPath = Path.of(stagedBlob.stagingLocation());
+        Path target = pathOf(stagedBlob.key());
+
+        if (Files.exists(target)) {
+            Files.deleteIfExists(stagingPath);
+            return;
+        }
+
+        Files.createDirectories(target.getParent());
+        try {
+            // 같은 파일시스템 안에서의 이동이므로 복사 없이 원자적으로 승격
+            Files.move(stagingPath, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            Files.deleteIfExists(stagingPath);
+        }
+    }
+
+    @Override
+    public void discard(StagedBlob stagedBlob) {
+        try {
+            Files.deleteIfExists(Path.of(stagedBlob.stagingLocation()));
+        } catch (IOException e) {
+            log.warn("Failed to discard staged blob: {}", stagedBlob.stagingLocation());
+        }
+    }
+
+    @Override
+    public Resource open(String key) throws IOException {
+        Path path = pathOf(key);
+        if (!Files.exists(path)) throw new IOException("Blob not found: " + key);
+        return new FileSystemResource(path);
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(pathOf(key));
+    }
+
+    @Override
+    public long usableSpace() {
+        try {
+            return Files.getFileStore(stagingDir).getUsableSpace();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    // 한 디렉토리에 파일이 몰리지 않도록 Hash 앞 2자리로 분산
+    private Path pathOf(String key) {
+        return blobDir.resolve(key.substring(0, 2)).resolve(key);
+    }
+}
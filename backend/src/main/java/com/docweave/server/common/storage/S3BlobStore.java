@@ -0,0 +1,184 @@
+package com.docweave.server.common.storage;
+
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadBucketRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+// S3 호환 저장소 (AWS S3 / MinIO)
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "docweave.storage.type", havingValue = "s3")
+public class S3BlobStore implements BlobStore {
+
+    private static final String STAGING_PREFIX = "staging/";
+    private static final String BLOB_PREFIX = "blobs/";
+    // S3 Multipart Upload 의 최소 Part 크기(5MB) 이상
+    private static final int PART_SIZE_BYTES = 8 * 1024 * 1024;
+
+    private final S3Client s3Client;
+    private final String bucket;
+
+    public S3BlobStore(S3Client s3Client, @Value("${docweave.storage.s3.bucket}") String bucket) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+    }
+
+    @PostConstruct
+    public void ensureBucket() {
+        try {
+            s3Client.headBucket(HeadBucketRequest.builder().bucket(bucket).build());
+        } catch (S3Exception e) {
+            if (e.statusCode() != 404) throw e;
+            log.info("Creating blob bucket: {}", bucket);
+            s3Client.createBucket(CreateBucketRequest.builder().bucket(bucket).build());
+        }
+    }
+
+    @Override
+    public StagedBlob stage(InputStream content, long contentLength) throws IOException {
+        String stagingKey = STAGING_PREFIX + UUID.randomUUID();
+        MessageDigest digest = BlobDigest.newSha256();
+
+        long size = contentLength;
+        try (DigestInputStream in = new DigestInputStream(content, digest)) {
+            if (contentLength >= 0) {
+                // 길이를 알고 있으므로 버퍼링 없이 그대로 업로드하면서 Hash 계산
+                s3Client.putObject(
+                        PutObjectRequest.builder().bucket(bucket).key(stagingKey).contentLength(contentLength).build(),
+                        RequestBody.fromInputStream(in, contentLength));
+            } else {
+                size = uploadInParts(stagingKey, in);
+            }
+        }
+
+        return new StagedBlob(BlobDigest.toKey(digest), stagingKey, size);
+    }
+
+    @Override
+    public void commit(StagedBlob stagedBlob) {
+        String target = BLOB_PREFIX + stagedBlob.key();
+
+        if (!exists(target)) {
+            // 서버 측 복사이므로 데이터가 애플리케이션을 다시 거치지 않음
+            s3Client.copyObject(CopyObjectRequest.builder()
+                    .sourceBucket(bucket)
+                    .sourceKey(stagedBlob.stagingLocation())
+                    .destinationBucket(bucket)
+                    .destinationKey(target)
+                    .build());
+        }
+        discard(stagedBlob);
+    }
+
+    @Override
+    public void discard(StagedBlob stagedBlob) {
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(stagedBlob.stagingLocation()).build());
+        } catch (Exception e) {
+            log.warn("Failed to discard staged blob: {}", stagedBlob.stagingLocation());
+        }
+    }
+
+    @Override
+    public Resource open(String key) throws IOException {
+        try {
+            ResponseInputStream<GetObjectResponse> in =
+                    s3Client.getObject(GetObjectRequest.builder().bucket(bucket).key(BLOB_PREFIX + key).build());
+            long contentLength = in.response().contentLength();
+            // 길이는 응답 메타데이터에서 가져옴 (기본 InputStreamResource 는 길이 계산을 위해 스트림을 끝까지 읽어 버림)
+            return new InputStreamResource(in, "s3 blob " + key) {
+                @Override
+                public long contentLength() {
+                    return contentLength;
+                }
+            };
+        } catch (NoSuchKeyException e) {
+            throw new IOException("Blob not found: " + key, e);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(BLOB_PREFIX + key).build());
+    }
+
+    // 길이를 모르는 스트림(ZIP 항목 등)은 고정 크기 Part 단위로 Multipart Upload
+    private long uploadInParts(String objectKey, InputStream in) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket).key(objectKey).build()).uploadId();
+
+        try {
+            List<CompletedPart> parts = new ArrayList<>();
+            byte[] buffer = new byte[PART_SIZE_BYTES];
+            long size = 0;
+            int partNumber = 1;
+            int read;
+
+            do {
+                read = in.readNBytes(buffer, 0, buffer.length);
+                if (read == 0 && partNumber > 1) break;
+
+                String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucket).key(objectKey).uploadId(uploadId)
+                                .partNumber(partNumber).contentLength((long) read)
+                                .build(),
+                        RequestBody.fromBytes(Arrays.copyOf(buffer, read))).eTag();
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+
+                size += read;
+                partNumber++;
+            } while (read == buffer.length);
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket).key(objectKey).uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+            return size;
+        } catch (IOException | RuntimeException e) {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket).key(objectKey).uploadId(uploadId).build());
+            throw e;
+        }
+    }
+
+    private boolean exists(String objectKey) {
+        try {
+            s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(objectKey).build());
+            return true;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) return false;
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.docweave.server.common.storage;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+// 길이를 모르는 스트림(Chunked 요청 본문, ZIP 항목)을 상한까지만 읽도록 제한
+// 상한을 넘으면 IOException 으로 알려 저장소가 임시 저장본을 정리하도록 함
+public class SizeLimitedInputStream extends FilterInputStream {
+
+    private final long maxBytes;
+    private long count;
+
+    public SizeLimitedInputStream(InputStream in, long maxBytes) {
+        super(in);
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b >= 0) increase(1);
+        return b;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int read = super.read(buffer, offset, length);
+        if (read > 0) increase(read);
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        increase(skipped);
+        return skipped;
+    }
+
+    // 읽기 위치를 되돌릴 수 없도록 함 (되돌리면 읽은 양을 셀 수 없음)
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    private void increase(long bytes) throws SizeLimitExceededException {
+        count += bytes;
+        if (count > maxBytes) throw new SizeLimitExceededException(maxBytes);
+    }
+
+    public static class SizeLimitExceededException extends IOException {
+        public SizeLimitExceededException(long maxBytes) {
+            super("Stream exceeded limit of " + maxBytes + " bytes");
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.docweave.server.config;
+
+import com.docweave.server.common.datasource.Workload;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+public class AsyncConfig {
+
+    // Reactor Scheduler 로 넘어간 작업도 예약한 스레드의 Workload(Connection Pool 구분)를 이어받도록 함
+    @PostConstruct
+    void propagateWorkload() {
+        Schedulers.onScheduleHook(Workload.class.getName(), Workload::propagate);
+    }
+
+    @PreDestroy
+    void resetWorkloadPropagation() {
+        Schedulers.resetOnScheduleHook(Workload.class.getName());
+    }
+
+    // @Scheduled 작업(Worker 폴링, 저널 Flush 등)은 백그라운드 작업이므로 ingestion Connection Pool 을 사용
+    @Bean
+    public ThreadPoolTaskSchedulerCustomizer workloadTaskSchedulerCustomizer() {
+        return scheduler -> scheduler.setTaskDecorator(Workload.INGESTION::decorate);
+    }
+
+    // RAG 요청 내 독립 단계(검색, 대화 내역 조회, 메시지 저장, LLM 호출)를 동시에 실행하기 위한 전용 풀
+    @Bean(name = "ragTaskExecutor")
+    public Executor ragTaskExecutor(
+            @Value("${docweave.rag.executor.core-pool-size:16}") int corePoolSize,
+            @Value("${docweave.rag.executor.max-pool-size:64}") int maxPoolSize,
+            @Value("${docweave.rag.executor.queue-capacity:256}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        // 단계별 DB 접근이 요청 사용자 기준으로 라우팅되도록(Read-your-writes) 인증 정보를 넘김
+        executor.setTaskDecorator(DelegatingSecurityContextRunnable::new);
+        executor.setThreadNamePrefix("rag-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 문서 수집 Worker 풀 (동시 처리 수는 IngestionWorker 의 Semaphore 로 제한)
+    @Bean(name = "ingestionTaskExecutor")
+    public Executor ingestionTaskExecutor(
+            @Value("${docweave.ingestion.worker.concurrency:2}") int concurrency) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(concurrency);
+        executor.setTaskDecorator(Workload.INGESTION::decorate);
+        executor.setThreadNamePrefix("ingest-");
+        executor.initialize();
+        return executor;
+    }
+
+    // Hedged Request 처럼 여러 Chat Backend 를 동시에 호출할 때 사용하는 풀
+    @Bean(name = "llmTaskExecutor")
+    public Executor llmTaskExecutor(
+            @Value("${docweave.ai.routing.executor.max-pool-size:32}") int maxPoolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxPoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(maxPoolSize * 4);
+        executor.setThreadNamePrefix("llm-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 대용량 PDF 를 페이지 구간별로 나눠 Tika 에 동시에 보낼 때 사용하는 풀 (실제 동시 요청 수는 TikaClient 가 제한)
+    @Bean(name = "tikaTaskExecutor")
+    public Executor tikaTaskExecutor(
+            @Value("${docweave.tika.max-in-flight:4}") int maxInFlight) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxInFlight);
+        executor.setMaxPoolSize(maxInFlight);
+        executor.setQueueCapacity(Integer.MAX_VALUE);
+        executor.setTaskDecorator(Workload.INGESTION::decorate);
+        executor.setThreadNamePrefix("tika-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 문서별 Parent Segment 파일 생성 풀 (대기열이 차면 요청을 거절하고 다음 조회 miss 때 다시 요청)
+    @Bean(name = "segmentTaskExecutor")
+    public Executor segmentTaskExecutor(
+            @Value("${docweave.storage.parent-segment.build-queue-capacity:64}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setTaskDecorator(Workload.INGESTION::decorate);
+        executor.setThreadNamePrefix("segment-");
+        executor.initialize();
+        return executor;
+    }
+}
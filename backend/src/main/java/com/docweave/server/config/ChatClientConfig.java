@@ -1,18 +1,69 @@
 package com.docweave.server.config;
 
+import com.docweave.server.common.ai.ChatBackend;
+import com.docweave.server.common.ai.RoutingChatModel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
 import org.springframework.ai.chat.client.ChatClient;
-import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.ollama.OllamaChatModel;
+import org.springframework.ai.ollama.api.OllamaApi;
+import org.springframework.ai.ollama.api.OllamaChatOptions;
 import org.springframework.ai.openai.OpenAiChatModel;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
 @Configuration
 public class ChatClientConfig {
 
+    @Value("${docweave.ai.routing.window-size:100}")
+    private int windowSize;
+
+    @Value("${docweave.ai.routing.error-half-life-ms:30000}")
+    private long errorHalfLifeMillis;
+
     @Bean
-    public ChatClient ollamaChatClient(OpenAiChatModel chatModel) {
-        return ChatClient.builder(chatModel).build();
+    @ConditionalOnProperty(name = "docweave.ai.routing.ollama.enabled", havingValue = "true")
+    public OllamaChatModel ollamaChatModel(OllamaApi ollamaApi,
+                                           @Value("${docweave.ai.routing.ollama.model:llama3.1}") String model) {
+        return OllamaChatModel.builder()
+                .ollamaApi(ollamaApi)
+                .defaultOptions(OllamaChatOptions.builder()
+                        .model(model)
+                        .build())
+                .build();
     }
-}
 
+    // Groq(OpenAI 호환) 를 우선으로, 활성화된 경우 Ollama 를 보조 Backend 로 등록
+    @Bean
+    @Primary
+    public RoutingChatModel routingChatModel(
+            OpenAiChatModel groqChatModel,
+            ObjectProvider<OllamaChatModel> ollamaChatModel,
+            @Qualifier("llmTaskExecutor") Executor llmTaskExecutor,
+            @Value("${docweave.ai.routing.ollama.enabled:false}") boolean ollamaEnabled,
+            @Value("${docweave.ai.routing.hedge.enabled:false}") boolean hedgingEnabled,
+            @Value("${docweave.ai.routing.hedge.min-delay-ms:500}") long minHedgeDelayMillis,
+            @Value("${docweave.ai.routing.hedge.max-delay-ms:8000}") long maxHedgeDelayMillis,
+            @Value("${docweave.ai.routing.hedge.timeout-ms:60000}") long hedgeTimeoutMillis,
+            @Value("${docweave.ai.routing.error-penalty:10}") double errorPenalty) {
+        List<ChatBackend> backends = new ArrayList<>();
+        backends.add(new ChatBackend("groq", groqChatModel, windowSize, errorHalfLifeMillis));
+        if (ollamaEnabled) {
+            ollamaChatModel.ifAvailable(model -> backends.add(new ChatBackend("ollama", model, windowSize, errorHalfLifeMillis)));
+        }
+
+        return new RoutingChatModel(backends, llmTaskExecutor,
+                new RoutingChatModel.Options(hedgingEnabled, minHedgeDelayMillis, maxHedgeDelayMillis, errorPenalty, hedgeTimeoutMillis));
+    }
+
+    @Bean
+    public ChatClient ollamaChatClient(RoutingChatModel routingChatModel) {
+        return ChatClient.builder(routingChatModel).build();
+    }
+}
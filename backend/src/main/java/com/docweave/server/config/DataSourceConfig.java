@@ -0,0 +1,65 @@
+package com.docweave.server.config;
+
+import com.docweave.server.common.datasource.ReplicaRoutingDataSource;
+import com.docweave.server.common.datasource.WorkloadRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+// 작업별 Connection Pool 분리: 대화 요청(interactive)과 문서 수집(ingestion)이 서로의 Connection 을 기다리지 않도록 함
+// 두 Pool 모두 Bean 이므로 hikaricp.connections.* 지표(사용 중 / 대기 / 획득 시간 / Timeout)가 pool 태그별로 노출됨
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    public HikariDataSource interactiveDataSource(
+            DataSourceProperties properties,
+            @Value("${docweave.datasource.pools.interactive.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${docweave.datasource.pools.interactive.minimum-idle:10}") int minimumIdle,
+            @Value("${docweave.datasource.pools.interactive.connection-timeout-ms:3000}") long connectionTimeout) {
+        return pool(properties, "interactive", maximumPoolSize, minimumIdle, connectionTimeout);
+    }
+
+    // 수집 트랜잭션은 길고 순차적이므로 작은 Pool 로 충분, 대기가 길어져도 대화 요청에는 영향 없음
+    @Bean
+    public HikariDataSource ingestionDataSource(
+            DataSourceProperties properties,
+            @Value("${docweave.datasource.pools.ingestion.maximum-pool-size:4}") int maximumPoolSize,
+            @Value("${docweave.datasource.pools.ingestion.minimum-idle:1}") int minimumIdle,
+            @Value("${docweave.datasource.pools.ingestion.connection-timeout-ms:30000}") long connectionTimeout) {
+        return pool(properties, "ingestion", maximumPoolSize, minimumIdle, connectionTimeout);
+    }
+
+    @Bean
+    public WorkloadRoutingDataSource workloadRoutingDataSource(
+            @Qualifier("interactiveDataSource") DataSource interactiveDataSource,
+            @Qualifier("ingestionDataSource") DataSource ingestionDataSource) {
+        return new WorkloadRoutingDataSource(interactiveDataSource, ingestionDataSource);
+    }
+
+    // 트랜잭션 시작 시점에는 실제 연결을 잡지 않고, 첫 쿼리 시점(readOnly 속성이 정해진 뒤)에 라우팅
+    @Bean
+    @Primary
+    public DataSource dataSource(WorkloadRoutingDataSource workloadRoutingDataSource,
+                                 ObjectProvider<ReplicaRoutingDataSource> replicaRoutingDataSource) {
+        DataSource target = replicaRoutingDataSource.getIfAvailable();
+        return new LazyConnectionDataSourceProxy(target != null ? target : workloadRoutingDataSource);
+    }
+
+    private HikariDataSource pool(DataSourceProperties properties, String name,
+                                  int maximumPoolSize, int minimumIdle, long connectionTimeout) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(name);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setMinimumIdle(Math.min(minimumIdle, maximumPoolSize));
+        dataSource.setConnectionTimeout(connectionTimeout);
+        return dataSource;
+    }
+}
@@ -0,0 +1,55 @@
+package com.docweave.server.config;
+
+import com.docweave.server.common.datasource.ReadYourWritesGuard;
+import com.docweave.server.common.datasource.ReplicaRoutingDataSource;
+import com.docweave.server.common.datasource.WorkloadRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+// spring.datasource.replica.enabled=true 일 때 읽기 전용 트랜잭션을 Replica 로 분산 (쓰기는 작업별 Primary Pool 사용)
+@Configuration
+@ConditionalOnProperty(name = ReplicaRoutingDataSource.REPLICA_ENABLED_PROPERTY, havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            WorkloadRoutingDataSource workloadRoutingDataSource,
+            DataSourceProperties properties,
+            ReadYourWritesGuard readYourWritesGuard,
+            MeterRegistry meterRegistry,
+            @Value("${spring.datasource.replica.urls}") String[] urls,
+            @Value("${spring.datasource.replica.username:${spring.datasource.username}}") String username,
+            @Value("${spring.datasource.replica.password:${spring.datasource.password}}") String password,
+            @Value("${spring.datasource.replica.maximum-pool-size:10}") int maximumPoolSize) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : urls) {
+            if (!StringUtils.hasText(url)) continue;
+
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.getDriverClassName())
+                    .url(url.trim())
+                    .username(username)
+                    .password(password)
+                    .build();
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setMaximumPoolSize(maximumPoolSize);
+            replica.setReadOnly(true);
+            // Bean 이 아니므로 Pool 지표를 직접 등록
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(workloadRoutingDataSource, replicas, readYourWritesGuard);
+    }
+}
@@ -0,0 +1,35 @@
+package com.docweave.server.config;
+
+import java.net.URI;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+
+@Configuration
+@ConditionalOnProperty(name = "docweave.storage.type", havingValue = "s3")
+public class S3Config {
+
+    @Bean
+    public S3Client s3Client(
+            @Value("${docweave.storage.s3.endpoint:}") String endpoint,
+            @Value("${docweave.storage.s3.region}") String region,
+            @Value("${docweave.storage.s3.access-key}") String accessKey,
+            @Value("${docweave.storage.s3.secret-key}") String secretKey) {
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)));
+
+        // MinIO 등 S3 호환 저장소는 Endpoint 지정 + Path-style 접근
+        if (StringUtils.hasText(endpoint)) {
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+        return builder.build();
+    }
+}
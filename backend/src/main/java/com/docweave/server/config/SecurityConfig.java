@@ -1,7 +1,10 @@
 package com.docweave.server.config;
 
 import com.docweave.server.auth.util.JwtAuthenticationFilter;
+import com.docweave.server.common.ratelimit.RateLimitFilter;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -19,6 +22,10 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+
+    @Value("${management.server.port:-1}")
+    private int managementPort;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -28,13 +35,22 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/**", "/health").permitAll()
+                        .requestMatchers(this::isInternalIngestionLoadRequest).permitAll()
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
 
+    // Autoscaler 가 읽는 적재 상태는 외부에 노출하지 않는 Management Port 로 들어온 요청만 인증 없이 허용
+    private boolean isInternalIngestionLoadRequest(HttpServletRequest request) {
+        return managementPort > 0
+                && request.getLocalPort() == managementPort
+                && "/actuator/ingestion".equals(request.getRequestURI());
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -5,16 +5,24 @@ import com.docweave.server.common.dto.BaseResponseDto;
 import com.docweave.server.doc.dto.ChatMessageDto;
 import com.docweave.server.doc.dto.ChatRoomDto;
 import com.docweave.server.doc.dto.request.ChatRequestDto;
+import com.docweave.server.doc.dto.response.BulkUploadResponseDto;
 import com.docweave.server.doc.dto.response.ChatResponseDto;
+import com.docweave.server.doc.dto.response.IngestionProgressDto;
 import com.docweave.server.doc.service.RagService;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -25,6 +33,8 @@ import org.springframework.web.multipart.MultipartFile;
 @RequestMapping("/api/doc")
 public class DocController {
 
+    private static final String FILE_NAME_HEADER = "X-File-Name";
+
     private final RagService ragService;
 
     @GetMapping("/rooms")
@@ -40,6 +50,17 @@ public class DocController {
         return BaseResponseDto.success(ragService.createChatRoom(customUserDetailsDto.getId(), file));
     }
 
+    // Multipart 버퍼링 없이 요청 본문을 그대로 저장소로 스트리밍 (파일명은 URL 인코딩하여 헤더로 전달)
+    @PostMapping(value = "/rooms", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public BaseResponseDto<ChatRoomDto> createRoomStreaming(
+            @AuthenticationPrincipal CustomUserDetailsDto customUserDetailsDto,
+            @RequestHeader(FILE_NAME_HEADER) String encodedFileName,
+            HttpServletRequest request
+    ) throws IOException {
+        return BaseResponseDto.success(ragService.createChatRoom(customUserDetailsDto.getId(),
+                decodeFileName(encodedFileName), request.getContentLengthLong(), request.getInputStream()));
+    }
+
     @GetMapping("/rooms/{roomId}/messages")
     public BaseResponseDto<List<ChatMessageDto>> getMessages(@PathVariable Long roomId) {
         return BaseResponseDto.success(ragService.getChatMessages(roomId));
@@ -62,6 +83,44 @@ public class DocController {
         return BaseResponseDto.voidSuccess();
     }
 
+    @PostMapping(value = "/rooms/{roomId}/files", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public BaseResponseDto<Void> addFileStreaming(
+            @AuthenticationPrincipal CustomUserDetailsDto customUserDetailsDto,
+            @PathVariable Long roomId,
+            @RequestHeader(FILE_NAME_HEADER) String encodedFileName,
+            HttpServletRequest request) throws IOException {
+        ragService.addDocumentToRoom(customUserDetailsDto.getId(), roomId,
+                decodeFileName(encodedFileName), request.getContentLengthLong(), request.getInputStream());
+        return BaseResponseDto.voidSuccess();
+    }
+
+    // 여러 PDF 또는 ZIP 파일을 한 번에 업로드 (하나의 묶음으로 병렬 처리)
+    @PostMapping(value = "/rooms/{roomId}/files/bulk", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public BaseResponseDto<BulkUploadResponseDto> addFilesBulk(
+            @AuthenticationPrincipal CustomUserDetailsDto customUserDetailsDto,
+            @PathVariable Long roomId,
+            @RequestParam("files") List<MultipartFile> files) {
+        return BaseResponseDto.success(ragService.addDocumentsToRoom(customUserDetailsDto.getId(), roomId, files));
+    }
+
+    // ZIP 본문을 그대로 스트리밍 (항목 단위로 저장소에 바로 기록)
+    @PostMapping(value = "/rooms/{roomId}/files/bulk", consumes = {"application/zip", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public BaseResponseDto<BulkUploadResponseDto> addArchiveStreaming(
+            @AuthenticationPrincipal CustomUserDetailsDto customUserDetailsDto,
+            @PathVariable Long roomId,
+            HttpServletRequest request) throws IOException {
+        return BaseResponseDto.success(ragService.addArchiveToRoom(customUserDetailsDto.getId(), roomId,
+                request.getContentLengthLong(), request.getInputStream()));
+    }
+
+    @GetMapping("/rooms/{roomId}/files/bulk/{groupId}")
+    public BaseResponseDto<IngestionProgressDto> getBulkProgress(
+            @AuthenticationPrincipal CustomUserDetailsDto customUserDetailsDto,
+            @PathVariable Long roomId,
+            @PathVariable String groupId) {
+        return BaseResponseDto.success(ragService.getBulkUploadProgress(customUserDetailsDto.getId(), roomId, groupId));
+    }
+
     @DeleteMapping("/rooms/{roomId}")
     public BaseResponseDto<Void> deleteRoom(
             @AuthenticationPrincipal CustomUserDetailsDto customUserDetailsDto,
@@ -70,5 +129,8 @@ public class DocController {
         ragService.deleteChatRoom(customUserDetailsDto.getId(), roomId);
         return BaseResponseDto.voidSuccess();
     }
-}
 
+    private String decodeFileName(String encodedFileName) {
+        return URLDecoder.decode(encodedFileName, StandardCharsets.UTF_8);
+    }
+}
@@ -12,6 +12,18 @@ import lombok.NoArgsConstructor;
 public class DocumentIngestionRequestDto {
     private Long roomId;
     private Long documentId;
+    private String blobKey;
+    // 공유 저장소 도입 이전에 등록된 작업 (로컬 임시 파일)
     private String tempFilePath;
     private String originalFileName;
+    // 저장 시점에 내용으로 판별한 형식 (null 이면 PDF)
+    private String mimeType;
+
+    // 스케줄링용 메타데이터
+    private Long userId;
+    private Long fileSize;
+    private Long enqueuedAt;
+
+    // 일괄 업로드 묶음 ID (단건 업로드는 null)
+    private String groupId;
 }
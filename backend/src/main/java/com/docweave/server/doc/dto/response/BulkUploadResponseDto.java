@@ -0,0 +1,13 @@
+package com.docweave.server.doc.dto.response;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class BulkUploadResponseDto {
+    private String groupId;
+    private List<String> fileNames;
+    private String message;
+}
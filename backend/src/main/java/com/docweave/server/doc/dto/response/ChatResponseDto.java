@@ -1,5 +1,6 @@
 package com.docweave.server.doc.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Data;
 
@@ -8,4 +9,8 @@ import lombok.Data;
 public class ChatResponseDto {
     private String question;
     private String answer;
+
+    // 분석 중인 문서가 있을 때만 포함 (예: "report.pdf 120/480 페이지")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String coverage;
 }
@@ -0,0 +1,14 @@
+package com.docweave.server.doc.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class IngestionProgressDto {
+    private String groupId;
+    private int total;
+    private int completed;
+    private int failed;
+    private boolean finished;
+}
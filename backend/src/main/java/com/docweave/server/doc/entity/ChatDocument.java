@@ -46,6 +46,13 @@ public class ChatDocument {
     @Setter
     private ProcessingStatus status = ProcessingStatus.PENDING;
 
+    // 분석 진행률 (페이지 수를 알 수 없는 형식은 null)
+    @Setter
+    private Integer totalPages;
+
+    @Setter
+    private Integer indexedPages;
+
     @OneToMany(mappedBy = "chatDocument", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<DocContent> contents = new ArrayList<>();
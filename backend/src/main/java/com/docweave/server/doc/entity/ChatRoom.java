@@ -51,8 +51,4 @@ public class ChatRoom {
 
     @CreatedDate
     private LocalDateTime createdAt;
-
-    public void updateLastActiveAt() {
-        this.lastActiveAt = LocalDateTime.now();
-    }
 }
@@ -36,8 +36,16 @@ public class DocContent {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @Column(columnDefinition = "TEXT", nullable = false)
+    // 압축 저장 시 null (compressedContent 사용)
+    @Column(columnDefinition = "TEXT")
     private String content;
 
+    // Zstd 압축 본문 (문서별 사전이 있으면 사전 압축)
+    @Column(columnDefinition = "bytea")
+    private byte[] compressedContent;
+
+    // 압축 해제 후 UTF-8 바이트 수
+    private Integer contentSize;
+
     private Integer pageNumber;
 }
@@ -0,0 +1,24 @@
+package com.docweave.server.doc.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 문서별 Zstd 사전 (같은 문서의 Parent Chunk 압축 / 해제에 공통 사용)
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocContentDictionary {
+
+    @Id
+    private Long documentId;
+
+    @Column(columnDefinition = "bytea", nullable = false)
+    private byte[] dictionary;
+}
@@ -0,0 +1,17 @@
+package com.docweave.server.doc.exception;
+
+import com.docweave.server.common.exception.ErrorCode;
+import lombok.Getter;
+
+// 처리 대기열 / 임시 저장 공간 포화로 업로드를 받을 수 없는 경우 (재시도 가능)
+@Getter
+public class IngestionBackpressureException extends RuntimeException {
+    private final ErrorCode errorCode;
+    private final long retryAfterSeconds;
+
+    public IngestionBackpressureException(ErrorCode errorCode, long retryAfterSeconds) {
+        super(errorCode.getMessage());
+        this.errorCode = errorCode;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
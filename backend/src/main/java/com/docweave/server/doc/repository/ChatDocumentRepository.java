@@ -1,7 +1,24 @@
 package com.docweave.server.doc.repository;
 
 import com.docweave.server.doc.entity.ChatDocument;
+import com.docweave.server.doc.entity.ChatDocument.ProcessingStatus;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ChatDocumentRepository extends JpaRepository<ChatDocument, Long> {
+
+    List<ChatDocument> findAllByChatRoomIdAndStatusIn(Long roomId, List<ProcessingStatus> statuses);
+
+    // 배치가 순서대로 반영되지 않더라도 진행률이 뒤로 가지 않도록 증가할 때만 갱신
+    @Modifying
+    @Query("UPDATE ChatDocument d SET d.indexedPages = :pages "
+            + "WHERE d.id = :id AND (d.indexedPages IS NULL OR d.indexedPages < :pages)")
+    int advanceIndexedPages(@Param("id") Long id, @Param("pages") int pages);
+
+    @Modifying
+    @Query("UPDATE ChatDocument d SET d.totalPages = :totalPages WHERE d.id = :id")
+    int updateTotalPages(@Param("id") Long id, @Param("totalPages") int totalPages);
 }
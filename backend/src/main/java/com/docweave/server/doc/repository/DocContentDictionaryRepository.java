@@ -0,0 +1,20 @@
+package com.docweave.server.doc.repository;
+
+import com.docweave.server.doc.entity.DocContentDictionary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface DocContentDictionaryRepository extends JpaRepository<DocContentDictionary, Long> {
+
+    // 여러 Worker 가 같은 문서의 사전을 동시에 학습해도 먼저 저장된 하나만 남김 (덮어쓰지 않음)
+    @Modifying
+    @Query(value = "INSERT INTO doc_content_dictionary (document_id, dictionary) VALUES (:documentId, :dictionary) "
+            + "ON CONFLICT (document_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("documentId") Long documentId, @Param("dictionary") byte[] dictionary);
+
+    // 영속성 컨텍스트를 거치지 않고 현재 저장된 사전을 조회
+    @Query(value = "SELECT dictionary FROM doc_content_dictionary WHERE document_id = :documentId", nativeQuery = true)
+    byte[] findStoredDictionary(@Param("documentId") Long documentId);
+}
@@ -3,7 +3,10 @@ package com.docweave.server.doc.repository;
 import com.docweave.server.doc.entity.DocContent;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface DocContentRepository extends JpaRepository<DocContent, Long> {
+    // 읽기 전용 트랜잭션이므로 Replica 라우팅 사용 시 Replica 에서 조회
+    @Transactional(readOnly = true)
     List<DocContent> findAllByIdIn(List<Long> ids);
 }
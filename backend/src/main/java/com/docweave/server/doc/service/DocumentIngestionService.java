@@ -1,7 +1,9 @@
 package com.docweave.server.doc.service;
 
 import com.docweave.server.doc.dto.request.DocumentIngestionRequestDto;
+import java.util.List;
 
 public interface DocumentIngestionService {
     void processDocument(DocumentIngestionRequestDto requestDto);
+    void processDocuments(List<DocumentIngestionRequestDto> requestDtos);
 }
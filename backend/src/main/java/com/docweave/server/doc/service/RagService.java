@@ -3,7 +3,10 @@ package com.docweave.server.doc.service;
 import com.docweave.server.doc.dto.ChatMessageDto;
 import com.docweave.server.doc.dto.ChatRoomDto;
 import com.docweave.server.doc.dto.request.ChatRequestDto;
+import com.docweave.server.doc.dto.response.BulkUploadResponseDto;
 import com.docweave.server.doc.dto.response.ChatResponseDto;
+import com.docweave.server.doc.dto.response.IngestionProgressDto;
+import java.io.InputStream;
 import java.util.List;
 import org.springframework.web.multipart.MultipartFile;
 import reactor.core.publisher.Flux;
@@ -12,7 +15,12 @@ public interface RagService {
     List<ChatRoomDto> getChatRooms(Long userId);
     List<ChatMessageDto> getChatMessages(Long roomId);
     ChatRoomDto createChatRoom(Long userId, MultipartFile file);
+    ChatRoomDto createChatRoom(Long userId, String fileName, long contentLength, InputStream content);
     ChatResponseDto ask(Long userId, Long roomId, ChatRequestDto requestDto);
     void addDocumentToRoom(Long userId, Long roomId, MultipartFile file);
+    void addDocumentToRoom(Long userId, Long roomId, String fileName, long contentLength, InputStream content);
+    BulkUploadResponseDto addDocumentsToRoom(Long userId, Long roomId, List<MultipartFile> files);
+    BulkUploadResponseDto addArchiveToRoom(Long userId, Long roomId, long contentLength, InputStream content);
+    IngestionProgressDto getBulkUploadProgress(Long userId, Long roomId, String groupId);
     void deleteChatRoom(Long userId, Long roomId);
 }
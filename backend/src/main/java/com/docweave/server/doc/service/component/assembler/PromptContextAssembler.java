@@ -0,0 +1,146 @@
+package com.docweave.server.doc.service.component.assembler;
+
+import com.docweave.server.doc.entity.ChatMessage;
+import com.knuddels.jtokkit.Encodings;
+import com.knuddels.jtokkit.api.Encoding;
+import com.knuddels.jtokkit.api.EncodingResult;
+import com.knuddels.jtokkit.api.EncodingType;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class PromptContextAssembler {
+
+    private static final String TRUNCATION_MARK = " …";
+
+    // TokenTextSplitter 와 동일한 인코딩(CL100K_BASE) 사용
+    private final Encoding encoding = Encodings.newLazyEncodingRegistry().getEncoding(EncodingType.CL100K_BASE);
+
+    @Value("${docweave.rag.context.max-tokens:2400}")
+    private int contextMaxTokens;
+
+    @Value("${docweave.rag.context.min-fragment-tokens:200}")
+    private int minFragmentTokens;
+
+    @Value("${docweave.rag.history.max-tokens:800}")
+    private int historyMaxTokens;
+
+    @Value("${docweave.rag.history.recent-messages:2}")
+    private int recentMessages;
+
+    @Value("${docweave.rag.history.recent-message-max-tokens:300}")
+    private int recentMessageMaxTokens;
+
+    @Value("${docweave.rag.history.older-message-max-tokens:80}")
+    private int olderMessageMaxTokens;
+
+    public int countTokens(String text) {
+        if (text == null || text.isEmpty()) return 0;
+        return encoding.countTokens(text);
+    }
+
+    // parents 는 유사도 내림차순으로 정렬되어 있어야 함
+    public PackedContext packContext(List<RetrievedParent> parents) {
+        List<String> packed = new ArrayList<>();
+        Set<String> fingerprints = new HashSet<>();
+        List<String> accepted = new ArrayList<>();
+        int remaining = contextMaxTokens;
+        int usedTokens = 0;
+
+        for (RetrievedParent parent : parents) {
+            String content = parent.content();
+            if (content == null || content.isBlank()) continue;
+
+            // 중복 / 포함 관계의 Parent 제거
+            String normalized = normalize(content);
+            if (!fingerprints.add(normalized) || isCovered(normalized, accepted)) {
+                log.debug("Skipping duplicate parent chunk. parentId: {}", parent.id());
+                continue;
+            }
+            accepted.add(normalized);
+
+            int tokens = countTokens(content);
+            if (tokens <= remaining) {
+                packed.add(content);
+                remaining -= tokens;
+                usedTokens += tokens;
+                continue;
+            }
+
+            // 남은 예산이 충분하면 잘라서라도 포함, 아니면 중단
+            if (remaining >= minFragmentTokens) {
+                String fragment = truncate(content, remaining);
+                packed.add(fragment);
+                usedTokens += countTokens(fragment);
+            }
+            break;
+        }
+
+        return new PackedContext(String.join("\n\n", packed), usedTokens, packed.size());
+    }
+
+    // history 는 오래된 순으로 정렬되어 있어야 함. 최근 메시지는 넉넉히, 오래된 메시지는 짧게 잘라 예산 내로 담는다.
+    public PackedHistory packHistory(List<ChatMessage> history) {
+        Deque<String> lines = new ArrayDeque<>();
+        int remaining = historyMaxTokens;
+        int usedTokens = 0;
+
+        for (int i = history.size() - 1, order = 0; i >= 0 && remaining > 0; i--, order++) {
+            ChatMessage msg = history.get(i);
+            int cap = order < recentMessages ? recentMessageMaxTokens : olderMessageMaxTokens;
+
+            String line = String.format("%s: %s", msg.getRole(), truncate(msg.getContent(), Math.min(cap, remaining)));
+            int tokens = countTokens(line);
+            if (tokens > remaining) break;
+
+            lines.addFirst(line);
+            remaining -= tokens;
+            usedTokens += tokens;
+        }
+
+        return new PackedHistory(String.join("\n", lines), usedTokens);
+    }
+
+    private String truncate(String text, int maxTokens) {
+        if (text == null) return "";
+
+        EncodingResult result = encoding.encode(text, maxTokens);
+        if (!result.isTruncated()) return text;
+
+        return encoding.decode(result.getTokens()) + TRUNCATION_MARK;
+    }
+
+    private boolean isCovered(String candidate, List<String> accepted) {
+        for (String existing : accepted) {
+            if (existing.contains(candidate) || candidate.contains(existing)) return true;
+        }
+        return false;
+    }
+
+    private String normalize(String text) {
+        return text.replaceAll("\\s+", " ").trim();
+    }
+
+    // 본문은 실제로 담을 차례가 된 Parent 만 읽음 (압축 본문은 이 시점에 해제)
+    public record RetrievedParent(Long id, Supplier<String> contentLoader, double score) {
+
+        public String content() {
+            return contentLoader.get();
+        }
+    }
+
+    public record PackedContext(String text, int tokens, int parentCount) {
+    }
+
+    public record PackedHistory(String text, int tokens) {
+    }
+}
@@ -0,0 +1,4 @@
+package com.docweave.server.doc.service.component.chunker;
+
+public record ChildChunk(String content, int tokenCount) {
+}
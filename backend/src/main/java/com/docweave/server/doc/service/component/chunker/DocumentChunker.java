@@ -0,0 +1,12 @@
+package com.docweave.server.doc.service.component.chunker;
+
+import java.util.List;
+
+// Markdown 문서를 Parent(RDB 저장) / Child(임베딩) 2단계 Chunk 로 분할
+// 전략 선택: docweave.ingestion.chunking.strategy (token / structure)
+public interface DocumentChunker {
+
+    String STRATEGY_PROPERTY = "docweave.ingestion.chunking.strategy";
+
+    List<ParentChunk> split(String markdown);
+}
@@ -0,0 +1,176 @@
+package com.docweave.server.doc.service.component.chunker;
+
+import com.docweave.server.common.constant.EmbeddingConstant;
+import com.knuddels.jtokkit.Encodings;
+import com.knuddels.jtokkit.api.Encoding;
+import com.knuddels.jtokkit.api.EncodingType;
+import com.knuddels.jtokkit.api.IntArrayList;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 문서를 한 번만 토큰화하고, 같은 토큰 오프셋으로 Parent / Child Chunk 를 모두 계산
+// (Chunk 경계 규칙은 TokenTextSplitter 와 동일: 토큰 수로 자른 뒤 마지막 문장부호/줄바꿈에서 끊음)
+@Component
+@ConditionalOnProperty(name = DocumentChunker.STRATEGY_PROPERTY, havingValue = "token", matchIfMissing = true)
+public class HierarchicalTokenChunker implements DocumentChunker {
+
+    private static final Window PARENT = new Window(EmbeddingConstant.PARENT_CHUNK_SIZE, 100, 10, 1000);
+    private static final Window CHILD = new Window(EmbeddingConstant.CHILD_CHUNK_SIZE, 50, 10, 100);
+
+    // TokenTextSplitter 와 동일한 인코딩(CL100K_BASE) 사용
+    private final Encoding encoding = Encodings.newLazyEncodingRegistry().getEncoding(EncodingType.CL100K_BASE);
+
+    // 토큰 ID 별 UTF-8 바이트 길이 캐시 (0 = 미계산, 같은 값만 기록되므로 동기화 불필요)
+    private final int[] tokenByteLengths = new int[1 << 18];
+
+    @Override
+    public List<ParentChunk> split(String text) {
+        if (text == null || text.isBlank()) return List.of();
+
+        IntArrayList tokens = encoding.encodeOrdinary(text);
+        int[] offsets = byteOffsets(tokens);
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        // 짝이 맞지 않는 Surrogate 등으로 재인코딩 결과가 다르면 토큰 기준 바이트 사용
+        if (offsets[tokens.size()] != bytes.length) bytes = encoding.decodeBytes(tokens);
+
+        List<ParentChunk> parents = new ArrayList<>();
+        for (Span parent : cut(bytes, offsets, 0, tokens.size(), PARENT)) {
+            List<ChildChunk> children = new ArrayList<>();
+            for (Span child : cut(bytes, offsets, parent.startToken(), parent.endToken(), CHILD)) {
+                children.add(new ChildChunk(child.text(), child.endToken() - child.startToken()));
+            }
+            parents.add(new ParentChunk(parent.text(), parent.endToken() - parent.startToken(), null, children));
+        }
+        return parents;
+    }
+
+    public int countTokens(String text) {
+        if (text == null || text.isEmpty()) return 0;
+        return encoding.countTokens(text);
+    }
+
+    // 단일 단계 분할 (구조 기반 분할에서 한도를 넘는 단락을 자를 때 사용)
+    public List<String> splitByTokens(String text, int chunkSize) {
+        if (text == null || text.isBlank()) return List.of();
+
+        IntArrayList tokens = encoding.encodeOrdinary(text);
+        int[] offsets = byteOffsets(tokens);
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        if (offsets[tokens.size()] != bytes.length) bytes = encoding.decodeBytes(tokens);
+
+        Window window = new Window(chunkSize, chunkSize / 6, 0, Integer.MAX_VALUE);
+        return cut(bytes, offsets, 0, tokens.size(), window).stream()
+                .map(Span::text)
+                .toList();
+    }
+
+    // offsets[i] = i 번째 토큰의 시작 바이트 위치 (offsets[size] = 전체 길이)
+    private int[] byteOffsets(IntArrayList tokens) {
+        int[] offsets = new int[tokens.size() + 1];
+        for (int i = 0; i < tokens.size(); i++) {
+            offsets[i + 1] = offsets[i] + byteLength(tokens.get(i));
+        }
+        return offsets;
+    }
+
+    private int byteLength(int token) {
+        if (token >= tokenByteLengths.length) return decodedLength(token);
+
+        int length = tokenByteLengths[token];
+        if (length == 0) {
+            length = decodedLength(token);
+            tokenByteLengths[token] = length;
+        }
+        return length;
+    }
+
+    private int decodedLength(int token) {
+        IntArrayList single = new IntArrayList(1);
+        single.add(token);
+        return encoding.decodeBytes(single).length;
+    }
+
+    private List<Span> cut(byte[] bytes, int[] offsets, int from, int to, Window window) {
+        List<Span> spans = new ArrayList<>();
+        int position = from;
+
+        while (position < to && spans.size() < window.maxNumChunks()) {
+            int end = Math.min(position + window.chunkSize(), to);
+            int startByte = offsets[position];
+
+            int cutByte = lastSentenceBreak(bytes, startByte, offsets[end]);
+            if (cutByte >= 0 && charCount(bytes, startByte, cutByte) > window.minChunkSizeChars()) {
+                end = tokenEndingAfter(offsets, position + 1, end, cutByte + 1);
+            }
+            end = alignToCharBoundary(bytes, offsets, position, end, to);
+
+            addSpan(spans, bytes, offsets, position, end, window);
+            position = end;
+        }
+
+        // 최대 Chunk 수를 넘긴 나머지는 하나로 묶음
+        if (position < to) addSpan(spans, bytes, offsets, position, to, window);
+        return spans;
+    }
+
+    private void addSpan(List<Span> spans, byte[] bytes, int[] offsets, int start, int end, Window window) {
+        String text = new String(bytes, offsets[start], offsets[end] - offsets[start], StandardCharsets.UTF_8).trim();
+        if (text.length() > window.minChunkLengthToEmbed()) spans.add(new Span(start, end, text));
+    }
+
+    // 한 글자가 여러 토큰에 걸친 경우 글자 중간에서 자르지 않도록 경계를 앞으로 당김
+    private int alignToCharBoundary(byte[] bytes, int[] offsets, int start, int end, int to) {
+        int aligned = end;
+        while (aligned > start + 1 && isContinuation(bytes, offsets, aligned)) aligned--;
+        if (!isContinuation(bytes, offsets, aligned)) return aligned;
+
+        // 토큰 하나가 글자 경계 없이 이어지는 경우 뒤쪽 경계까지 확장
+        aligned = end;
+        while (aligned < to && isContinuation(bytes, offsets, aligned)) aligned++;
+        return aligned;
+    }
+
+    private boolean isContinuation(byte[] bytes, int[] offsets, int token) {
+        return offsets[token] < bytes.length && isContinuation(bytes[offsets[token]]);
+    }
+
+    private boolean isContinuation(byte b) {
+        return (b & 0xC0) == 0x80;
+    }
+
+    // 문장부호는 모두 ASCII 이므로 바이트 단위로 찾아도 UTF-8 다중 바이트 문자와 충돌하지 않음
+    private int lastSentenceBreak(byte[] bytes, int startByte, int endByte) {
+        for (int i = endByte - 1; i >= startByte; i--) {
+            byte b = bytes[i];
+            if (b == '.' || b == '?' || b == '!' || b == '\n') return i;
+        }
+        return -1;
+    }
+
+    private int charCount(byte[] bytes, int startByte, int endByte) {
+        int count = 0;
+        for (int i = startByte; i < endByte; i++) {
+            if (!isContinuation(bytes[i])) count++;
+        }
+        return count;
+    }
+
+    // cutByte 를 포함하는 토큰까지를 Chunk 로 (offsets[t] >= cutByte 인 최소 t)
+    private int tokenEndingAfter(int[] offsets, int low, int high, int cutByte) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (offsets[mid] >= cutByte) high = mid;
+            else low = mid + 1;
+        }
+        return low;
+    }
+
+    private record Window(int chunkSize, int minChunkSizeChars, int minChunkLengthToEmbed, int maxNumChunks) {
+    }
+
+    private record Span(int startToken, int endToken, String text) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.docweave.server.doc.service.component.chunker;
+
+import java.util.List;
+
+// headingPath: 상위 제목 경로 ("제목1 > 제목2"), 구조 정보가 없으면 null
+public record ParentChunk(String content, int tokenCount, String headingPath, List<ChildChunk> children) {
+}
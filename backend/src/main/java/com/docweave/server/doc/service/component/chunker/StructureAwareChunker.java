@@ -0,0 +1,276 @@
+package com.docweave.server.doc.service.component.chunker;
+
+import com.docweave.server.common.constant.EmbeddingConstant;
+import com.vladsch.flexmark.ast.Heading;
+import com.vladsch.flexmark.ast.ListBlock;
+import com.vladsch.flexmark.ext.tables.TableBlock;
+import com.vladsch.flexmark.ext.tables.TablesExtension;
+import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.util.ast.Node;
+import com.vladsch.flexmark.util.data.MutableDataSet;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// flexmark AST 를 따라 제목(Section) / 표 / 목록 경계에서 Chunk 를 나눔
+// - 각 Chunk 에 상위 제목 경로를 함께 저장
+// - 본문 없이 제목만 있는 Section 은 다음 Section 앞에 붙이고, 작은 형제 Section 은 Parent 한도까지 묶음
+// - 한도를 넘는 표는 머리행을 반복해서 행 단위로 나눔 (Parent / Child 모두)
+// - 한도를 넘는 단락만 토큰 단위로 분할
+@Component
+@ConditionalOnProperty(name = DocumentChunker.STRATEGY_PROPERTY, havingValue = "structure")
+public class StructureAwareChunker implements DocumentChunker {
+
+    private static final String HEADING_SEPARATOR = " > ";
+
+    private final Parser parser;
+    private final HierarchicalTokenChunker tokenChunker = new HierarchicalTokenChunker();
+
+    public StructureAwareChunker() {
+        MutableDataSet options = new MutableDataSet();
+        options.set(Parser.EXTENSIONS, List.of(TablesExtension.create()));
+        this.parser = Parser.builder(options).build();
+    }
+
+    @Override
+    public List<ParentChunk> split(String markdown) {
+        if (markdown == null || markdown.isBlank()) return List.of();
+
+        List<Section> sections = new ArrayList<>();
+        String[] headings = new String[7];
+        List<String> path = List.of();
+        List<Unit> units = new ArrayList<>();
+
+        for (Node node = parser.parse(markdown).getFirstChild(); node != null; node = node.getNext()) {
+            if (node instanceof Heading heading) {
+                // 새 Section 시작 전 이전 Section 을 정리
+                if (!units.isEmpty()) sections.add(new Section(path, units));
+                units = new ArrayList<>();
+
+                int level = Math.min(heading.getLevel(), 6);
+                headings[level] = heading.getText().toString().strip();
+                for (int i = level + 1; i < headings.length; i++) headings[i] = null;
+                path = headingPath(headings);
+            }
+
+            String text = node.getChars().toString().strip();
+            if (text.isEmpty()) continue;
+            units.add(new Unit(text, tokenChunker.countTokens(text), kindOf(node), node));
+        }
+        if (!units.isEmpty()) sections.add(new Section(path, units));
+
+        List<ParentChunk> parents = new ArrayList<>();
+        List<Section> group = new ArrayList<>();
+        int groupTokens = 0;
+        for (Section section : attachHeadingOnly(sections)) {
+            int tokens = tokens(section.units());
+            boolean fits = tokens <= EmbeddingConstant.PARENT_CHUNK_SIZE;
+            if (fits && !group.isEmpty() && groupTokens + tokens <= EmbeddingConstant.PARENT_CHUNK_SIZE
+                    && parentPath(section).equals(parentPath(group.get(0)))) {
+                group.add(section);
+                groupTokens += tokens;
+                continue;
+            }
+
+            emitGroup(group, parents);
+            group = new ArrayList<>();
+            groupTokens = 0;
+            if (fits) {
+                group.add(section);
+                groupTokens = tokens;
+            } else {
+                emitSection(section.units(), joinPath(section.path()), parents);
+            }
+        }
+        emitGroup(group, parents);
+        return parents;
+    }
+
+    // 제목만 있는 Section("# 1장" 바로 뒤에 "## 1.1") 은 단독 Chunk 로 만들지 않고 다음 Section 앞에 붙임
+    private List<Section> attachHeadingOnly(List<Section> sections) {
+        List<Section> attached = new ArrayList<>();
+        List<Unit> carried = new ArrayList<>();
+        for (int i = 0; i < sections.size(); i++) {
+            Section section = sections.get(i);
+            boolean headingOnly = section.units().stream().allMatch(unit -> unit.kind() == BlockKind.HEADING);
+            if (headingOnly && i < sections.size() - 1) {
+                carried.addAll(section.units());
+                continue;
+            }
+
+            if (carried.isEmpty()) {
+                attached.add(section);
+            } else {
+                List<Unit> units = new ArrayList<>(carried);
+                units.addAll(section.units());
+                attached.add(new Section(section.path(), units));
+                carried = new ArrayList<>();
+            }
+        }
+        return attached;
+    }
+
+    // 형제 Section 을 묶은 Parent 는 공통 상위 제목 경로를 가짐
+    private void emitGroup(List<Section> group, List<ParentChunk> parents) {
+        if (group.isEmpty()) return;
+        if (group.size() == 1) {
+            emitSection(group.get(0).units(), joinPath(group.get(0).path()), parents);
+            return;
+        }
+
+        List<Unit> units = new ArrayList<>();
+        group.forEach(section -> units.addAll(section.units()));
+        emitSection(units, joinPath(parentPath(group.get(0))), parents);
+    }
+
+    private void emitSection(List<Unit> section, String headingPath, List<ParentChunk> parents) {
+        if (section.isEmpty()) return;
+
+        for (List<Unit> parentUnits : pack(expand(section, EmbeddingConstant.PARENT_CHUNK_SIZE), EmbeddingConstant.PARENT_CHUNK_SIZE)) {
+            List<ChildChunk> children = new ArrayList<>();
+            for (List<Unit> childUnits : pack(expand(parentUnits, EmbeddingConstant.CHILD_CHUNK_SIZE), EmbeddingConstant.CHILD_CHUNK_SIZE)) {
+                children.add(new ChildChunk(join(childUnits), tokens(childUnits)));
+            }
+            parents.add(new ParentChunk(join(parentUnits), tokens(parentUnits), headingPath, children));
+        }
+    }
+
+    // 한도를 넘는 단위를 경계 단위로 분해
+    private List<Unit> expand(List<Unit> source, int limit) {
+        List<Unit> units = new ArrayList<>();
+        for (Unit unit : source) {
+            if (unit.tokens() <= limit) {
+                units.add(unit);
+                continue;
+            }
+
+            switch (unit.kind()) {
+                case TABLE -> splitTableRows(unit, limit, units);
+                case LIST -> {
+                    // 목록 전체가 남아 있으면 항목 경계에서, 이미 잘린 조각이면 줄 경계 위주로 분할
+                    if (unit.node() == null) {
+                        addText(unit.text(), limit, unit.kind(), units);
+                        continue;
+                    }
+                    for (Node item = unit.node().getFirstChild(); item != null; item = item.getNext()) {
+                        String itemText = item.getChars().toString().strip();
+                        if (!itemText.isEmpty()) addText(itemText, limit, unit.kind(), units);
+                    }
+                }
+                default -> addText(unit.text(), limit, unit.kind(), units);
+            }
+        }
+        return units;
+    }
+
+    private void addText(String text, int limit, BlockKind kind, List<Unit> units) {
+        int tokens = tokenChunker.countTokens(text);
+        if (tokens <= limit) {
+            units.add(new Unit(text, tokens, kind, null));
+            return;
+        }
+        for (String part : tokenChunker.splitByTokens(text, limit)) {
+            units.add(new Unit(part, tokenChunker.countTokens(part), kind, null));
+        }
+    }
+
+    // 머리행 + 구분행을 각 묶음 앞에 반복해서 행 단위로 분할
+    private void splitTableRows(Unit table, int limit, List<Unit> units) {
+        String[] lines = table.text().split("\n");
+        if (lines.length <= 2) {
+            addText(table.text(), limit, BlockKind.TEXT, units);
+            return;
+        }
+
+        String header = lines[0] + "\n" + lines[1];
+        int headerTokens = tokenChunker.countTokens(header);
+        StringBuilder rows = new StringBuilder();
+        int rowTokens = 0;
+
+        for (int i = 2; i < lines.length; i++) {
+            int tokens = tokenChunker.countTokens(lines[i]) + 1;
+            if (rowTokens > 0 && headerTokens + rowTokens + tokens > limit) {
+                units.add(new Unit(header + rows, headerTokens + rowTokens, BlockKind.TABLE, null));
+                rows.setLength(0);
+                rowTokens = 0;
+            }
+            // 머리행과 함께 한도를 넘는 행 하나는 본문으로 취급해 토큰 단위로 분할
+            if (headerTokens + tokens > limit) {
+                addText(lines[i], limit, BlockKind.TEXT, units);
+                continue;
+            }
+            rows.append('\n').append(lines[i]);
+            rowTokens += tokens;
+        }
+        if (rowTokens > 0) units.add(new Unit(header + rows, headerTokens + rowTokens, BlockKind.TABLE, null));
+    }
+
+    // 한도 안에서 연속된 단위를 묶음 (단위 하나가 한도를 넘으면 단독 Chunk)
+    private List<List<Unit>> pack(List<Unit> units, int limit) {
+        List<List<Unit>> groups = new ArrayList<>();
+        List<Unit> current = new ArrayList<>();
+        int currentTokens = 0;
+
+        for (Unit unit : units) {
+            if (!current.isEmpty() && currentTokens + unit.tokens() > limit) {
+                groups.add(current);
+                current = new ArrayList<>();
+                currentTokens = 0;
+            }
+            current.add(unit);
+            currentTokens += unit.tokens();
+        }
+        if (!current.isEmpty()) groups.add(current);
+        return groups;
+    }
+
+    private String join(List<Unit> units) {
+        StringBuilder text = new StringBuilder();
+        for (Unit unit : units) {
+            if (!text.isEmpty()) text.append("\n\n");
+            text.append(unit.text());
+        }
+        return text.toString();
+    }
+
+    private int tokens(List<Unit> units) {
+        return units.stream().mapToInt(Unit::tokens).sum();
+    }
+
+    private List<String> headingPath(String[] headings) {
+        List<String> path = new ArrayList<>();
+        for (String heading : headings) {
+            if (heading != null && !heading.isEmpty()) path.add(heading);
+        }
+        return path;
+    }
+
+    private List<String> parentPath(Section section) {
+        List<String> path = section.path();
+        return path.isEmpty() ? path : path.subList(0, path.size() - 1);
+    }
+
+    private String joinPath(List<String> path) {
+        return path.isEmpty() ? null : String.join(HEADING_SEPARATOR, path);
+    }
+
+    private BlockKind kindOf(Node node) {
+        if (node instanceof Heading) return BlockKind.HEADING;
+        if (node instanceof TableBlock) return BlockKind.TABLE;
+        if (node instanceof ListBlock) return BlockKind.LIST;
+        return BlockKind.TEXT;
+    }
+
+    private enum BlockKind {
+        HEADING, TEXT, TABLE, LIST
+    }
+
+    // node: 원본 AST 블록 전체일 때만 보관 (분할된 조각은 null)
+    private record Unit(String text, int tokens, BlockKind kind, Node node) {
+    }
+
+    // path: 제목 경로 (제목 이전 본문은 빈 목록)
+    private record Section(List<String> path, List<Unit> units) {
+    }
+}
@@ -0,0 +1,200 @@
+package com.docweave.server.doc.service.component.compression;
+
+import com.docweave.server.doc.repository.DocContentDictionaryRepository;
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import com.github.luben.zstd.ZstdDictTrainer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// Parent Chunk 본문 압축 (docweave.storage.parent-content.format = zstd 일 때만 압축 저장)
+// 같은 문서의 Parent 는 표현이 반복되므로 문서별 사전을 학습해 작은 Chunk 도 높은 압축률을 얻음
+@Slf4j
+@Component
+public class ParentContentCodec {
+
+    // 이 크기까지는 스레드별 버퍼를 재사용 (더 큰 본문은 일회성 할당)
+    private static final int MAX_POOLED_BUFFER = 1024 * 1024;
+
+    private final DocContentDictionaryRepository dictionaryRepository;
+    private final boolean compressionEnabled;
+    private final int level;
+    private final int dictionarySize;
+    private final int minDictionarySamples;
+
+    // 사전이 있는 문서만 보관 (없다는 결과는 Replica 지연일 수 있으므로 기억하지 않음)
+    private final Map<Long, ZstdDictDecompress> dictionaries;
+    private final ThreadLocal<byte[]> buffers = ThreadLocal.withInitial(() -> new byte[64 * 1024]);
+
+    public ParentContentCodec(
+            DocContentDictionaryRepository dictionaryRepository,
+            @Value("${docweave.storage.parent-content.format:text}") String format,
+            @Value("${docweave.storage.parent-content.level:6}") int level,
+            @Value("${docweave.storage.parent-content.dictionary-size:16384}") int dictionarySize,
+            @Value("${docweave.storage.parent-content.min-dictionary-samples:8}") int minDictionarySamples,
+            @Value("${docweave.storage.parent-content.dictionary-cache-size:256}") int dictionaryCacheSize) {
+        this.dictionaryRepository = dictionaryRepository;
+        this.compressionEnabled = "zstd".equalsIgnoreCase(format);
+        this.level = level;
+        this.dictionarySize = dictionarySize;
+        this.minDictionarySamples = minDictionarySamples;
+        this.dictionaries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, ZstdDictDecompress> eldest) {
+                return size() > dictionaryCacheSize;
+            }
+        };
+    }
+
+    public boolean isCompressionEnabled() {
+        return compressionEnabled;
+    }
+
+    // 수집 작업 단위 세션: 첫 배치로 사전을 학습해 저장하고 이후 배치는 같은 사전으로 압축
+    public Session openSession(Long documentId) {
+        return new Session(documentId);
+    }
+
+    // 압축 여부와 관계없이 본문 반환 (압축 본문은 호출 시점에 해제)
+    public String decode(Long documentId, String content, byte[] compressed, Integer size) {
+        if (compressed == null) return content;
+
+        // 사전 없이 압축된 본문은 Frame 의 사전 ID 가 0 이므로 사전을 찾지 않음
+        ZstdDictDecompress dictionary = null;
+        if (Zstd.getDictIdFromFrame(compressed) != 0) {
+            dictionary = dictionary(documentId);
+            if (dictionary == null) throw new IllegalStateException("Missing compression dictionary. docId: " + documentId);
+        }
+        byte[] buffer = size <= MAX_POOLED_BUFFER ? pooledBuffer(size) : new byte[size];
+
+        long decompressed = dictionary != null
+                ? Zstd.decompressFastDict(buffer, 0, compressed, 0, compressed.length, dictionary)
+                : Zstd.decompressByteArray(buffer, 0, size, compressed, 0, compressed.length);
+        if (Zstd.isError(decompressed)) {
+            throw new IllegalStateException("Failed to decompress parent content: " + Zstd.getErrorName(decompressed));
+        }
+        return new String(buffer, 0, (int) decompressed, StandardCharsets.UTF_8);
+    }
+
+    // 샘플이 부족하거나 학습에 실패하면 null (사전 없이 압축)
+    public byte[] trainDictionary(List<byte[]> samples) {
+        if (samples.size() < minDictionarySamples) return null;
+
+        int sampleBytes = samples.stream().mapToInt(sample -> sample.length).sum();
+        ZstdDictTrainer trainer = new ZstdDictTrainer(sampleBytes, dictionarySize);
+        samples.forEach(trainer::addSample);
+        try {
+            return trainer.trainSamples();
+        } catch (RuntimeException e) {
+            log.debug("Dictionary training failed. samples: {}", samples.size(), e);
+            return null;
+        }
+    }
+
+    public byte[] compress(byte[] raw, ZstdDictCompress dictionary) {
+        return dictionary != null ? Zstd.compress(raw, dictionary) : Zstd.compress(raw, level);
+    }
+
+    public ZstdDictCompress compressionDictionary(byte[] dictionary) {
+        return dictionary != null ? new ZstdDictCompress(dictionary, level) : null;
+    }
+
+    // 학습한 사전을 저장하고 실제로 저장된 사전을 반환 (다른 Worker 가 먼저 저장했으면 그 사전, 트랜잭션 안에서 호출)
+    public byte[] storeDictionary(Long documentId, byte[] trained) {
+        dictionaryRepository.insertIfAbsent(documentId, trained);
+        byte[] stored = dictionaryRepository.findStoredDictionary(documentId);
+        return stored != null ? stored : trained;
+    }
+
+    public void cacheDictionary(Long documentId, byte[] dictionary) {
+        if (dictionary == null) return;
+        synchronized (dictionaries) {
+            dictionaries.put(documentId, new ZstdDictDecompress(dictionary));
+        }
+    }
+
+    // Parent 를 읽은 트랜잭션 안에서 호출해 Parent 와 같은 DB 에서 사전을 읽어 둠
+    public void loadDictionaries(Collection<Long> documentIds) {
+        List<Long> missing;
+        synchronized (dictionaries) {
+            missing = documentIds.stream().filter(id -> !dictionaries.containsKey(id)).toList();
+        }
+        if (missing.isEmpty()) return;
+
+        dictionaryRepository.findAllById(missing)
+                .forEach(entry -> cacheDictionary(entry.getDocumentId(), entry.getDictionary()));
+    }
+
+    private ZstdDictDecompress dictionary(Long documentId) {
+        synchronized (dictionaries) {
+            ZstdDictDecompress cached = dictionaries.get(documentId);
+            if (cached != null) return cached;
+        }
+
+        return dictionaryRepository.findById(documentId)
+                .map(entry -> {
+                    cacheDictionary(documentId, entry.getDictionary());
+                    return new ZstdDictDecompress(entry.getDictionary());
+                })
+                .orElse(null);
+    }
+
+    private byte[] pooledBuffer(int size) {
+        byte[] buffer = buffers.get();
+        if (buffer.length < size) {
+            buffer = new byte[Math.max(size, buffer.length * 2)];
+            buffers.set(buffer);
+        }
+        return buffer;
+    }
+
+    public record EncodedContent(String content, byte[] compressedContent, Integer contentSize) {
+    }
+
+    public class Session {
+
+        private final Long documentId;
+        private ZstdDictCompress dictionary;
+        private boolean dictionaryResolved;
+
+        private Session(Long documentId) {
+            this.documentId = documentId;
+        }
+
+        // 트랜잭션 안에서 호출 (첫 호출 시 사전을 함께 저장)
+        public List<EncodedContent> encode(List<String> contents) {
+            List<EncodedContent> encoded = new ArrayList<>(contents.size());
+            if (!compressionEnabled) {
+                contents.forEach(content -> encoded.add(new EncodedContent(content, null, null)));
+                return encoded;
+            }
+
+            List<byte[]> raws = contents.stream().map(content -> content.getBytes(StandardCharsets.UTF_8)).toList();
+            if (!dictionaryResolved) resolveDictionary(raws);
+
+            for (byte[] raw : raws) {
+                encoded.add(new EncodedContent(null, compress(raw, dictionary), raw.length));
+            }
+            return encoded;
+        }
+
+        private void resolveDictionary(List<byte[]> samples) {
+            dictionaryResolved = true;
+
+            byte[] trained = trainDictionary(samples);
+            if (trained == null) return;
+
+            byte[] stored = storeDictionary(documentId, trained);
+            dictionary = compressionDictionary(stored);
+            cacheDictionary(documentId, stored);
+        }
+    }
+}
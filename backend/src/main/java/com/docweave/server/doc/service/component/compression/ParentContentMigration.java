@@ -0,0 +1,138 @@
+package com.docweave.server.doc.service.component.compression;
+
+import com.docweave.server.doc.repository.DocContentDictionaryRepository;
+import com.github.luben.zstd.ZstdDictCompress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 기존 평문 Parent 를 문서 단위로 압축 저장으로 전환 (기동 후 백그라운드에서 배치 처리)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParentContentMigration {
+
+    private static final String SELECT_DOCUMENTS =
+            "SELECT DISTINCT document_id FROM doc_content WHERE compressed_content IS NULL AND content IS NOT NULL";
+    private static final String SELECT_BATCH =
+            "SELECT id, content FROM doc_content WHERE document_id = ? AND compressed_content IS NULL AND content IS NOT NULL ORDER BY id LIMIT ?";
+    private static final String UPDATE_ROW =
+            "UPDATE doc_content SET compressed_content = ?, content_size = ?, content = NULL WHERE id = ? AND compressed_content IS NULL";
+    private static final String SELECT_CONTENT_NULLABLE =
+            "SELECT is_nullable FROM information_schema.columns "
+                    + "WHERE table_schema = current_schema() AND table_name = 'doc_content' AND column_name = 'content'";
+    // 채팅방 삭제 도중 실패 등으로 문서 없이 남은 사전 정리
+    private static final String DELETE_ORPHAN_DICTIONARIES =
+            "DELETE FROM doc_content_dictionary d WHERE NOT EXISTS (SELECT 1 FROM chat_document c WHERE c.id = d.document_id)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ParentContentCodec parentContentCodec;
+    private final DocContentDictionaryRepository dictionaryRepository;
+
+    @Qualifier("ingestionTaskExecutor")
+    private final Executor ingestionTaskExecutor;
+
+    @Value("${docweave.storage.parent-content.migrate:false}")
+    private boolean migrate;
+
+    @Value("${docweave.storage.parent-content.migration-batch-size:200}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        try {
+            int removed = jdbcTemplate.update(DELETE_ORPHAN_DICTIONARIES);
+            if (removed > 0) log.info("Removed {} orphan parent content dictionaries", removed);
+        } catch (Exception e) {
+            log.warn("Failed to remove orphan parent content dictionaries", e);
+        }
+
+        if (!parentContentCodec.isCompressionEnabled()) return;
+        relaxContentConstraint();
+
+        if (migrate) ingestionTaskExecutor.execute(this::migrateAll);
+    }
+
+    // ddl-auto(update) 는 NOT NULL 을 해제하지 않으므로 압축 저장을 쓸 때만, 아직 NOT NULL 인 경우에 한 번 해제 (압축 행은 content 가 null)
+    private void relaxContentConstraint() {
+        try {
+            List<String> nullable = jdbcTemplate.queryForList(SELECT_CONTENT_NULLABLE, String.class);
+            if (nullable.isEmpty() || !"NO".equals(nullable.get(0))) return;
+
+            jdbcTemplate.execute("ALTER TABLE doc_content ALTER COLUMN content DROP NOT NULL");
+            log.info("Relaxed NOT NULL constraint on doc_content.content");
+        } catch (Exception e) {
+            log.warn("Failed to relax doc_content.content constraint", e);
+        }
+    }
+
+    private void migrateAll() {
+        List<Long> documentIds = jdbcTemplate.queryForList(SELECT_DOCUMENTS, Long.class);
+        log.info("Compressing parent content of {} documents", documentIds.size());
+
+        for (Long documentId : documentIds) {
+            try {
+                migrateDocument(documentId);
+            } catch (Exception e) {
+                // 실패한 문서는 평문 그대로 두고 다음 기동 시 재시도
+                log.warn("Parent content migration failed. docId: {}", documentId, e);
+            }
+        }
+        log.info("Parent content migration finished");
+    }
+
+    private void migrateDocument(Long documentId) {
+        ZstdDictCompress dictionary = null;
+        boolean dictionaryResolved = false;
+        int migrated = 0;
+
+        while (true) {
+            List<ParentRow> rows = jdbcTemplate.query(SELECT_BATCH,
+                    (rs, rowNum) -> new ParentRow(rs.getLong("id"), rs.getString("content").getBytes(StandardCharsets.UTF_8)),
+                    documentId, batchSize);
+            if (rows.isEmpty()) break;
+
+            if (!dictionaryResolved) {
+                dictionary = resolveDictionary(documentId, rows);
+                dictionaryResolved = true;
+            }
+
+            List<Object[]> updates = new ArrayList<>(rows.size());
+            for (ParentRow row : rows) {
+                updates.add(new Object[]{parentContentCodec.compress(row.raw(), dictionary), row.raw().length, row.id()});
+            }
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_ROW, updates));
+            migrated += rows.size();
+        }
+        log.debug("Compressed {} parents. docId: {}", migrated, documentId);
+    }
+
+    // 이미 일부가 압축된 문서는 기존 사전을 그대로 사용 (동시에 학습한 경우 먼저 저장된 사전으로 압축)
+    private ZstdDictCompress resolveDictionary(Long documentId, List<ParentRow> rows) {
+        byte[] dictionary = dictionaryRepository.findStoredDictionary(documentId);
+
+        if (dictionary == null) {
+            byte[] trained = parentContentCodec.trainDictionary(rows.stream().map(ParentRow::raw).toList());
+            if (trained != null) {
+                dictionary = transactionTemplate.execute(status -> parentContentCodec.storeDictionary(documentId, trained));
+            }
+        }
+
+        parentContentCodec.cacheDictionary(documentId, dictionary);
+        return parentContentCodec.compressionDictionary(dictionary);
+    }
+
+    private record ParentRow(long id, byte[] raw) {
+    }
+}
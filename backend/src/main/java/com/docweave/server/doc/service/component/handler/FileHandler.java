@@ -1,34 +1,197 @@
 package com.docweave.server.doc.service.component.handler;
 
-import com.docweave.server.common.constant.FileConstant;
 import com.docweave.server.common.exception.ErrorCode;
+import com.docweave.server.common.storage.BlobStorageService;
+import com.docweave.server.common.storage.BlobStorageService.StoredBlob;
+import com.docweave.server.common.storage.SizeLimitedInputStream;
+import com.docweave.server.common.storage.SizeLimitedInputStream.SizeLimitExceededException;
 import com.docweave.server.doc.exception.FileHandlingException;
+import com.docweave.server.doc.service.component.parser.DocumentFormat;
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
-import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+@Slf4j
 @Component
+@RequiredArgsConstructor
 public class FileHandler {
 
+    private final BlobStorageService blobStorageService;
+
+    @Value("${docweave.upload.stream.max-bytes:209715200}")
+    private long maxStreamBytes;
+
+    @Value("${docweave.upload.bulk.max-files:50}")
+    private int maxBulkFiles;
+
+    // ZIP 한 개를 풀었을 때 허용하는 전체 크기 (압축 폭탄 방지, 항목별 상한은 maxStreamBytes)
+    @Value("${docweave.upload.archive.max-total-bytes:1073741824}")
+    private long maxArchiveBytes;
+
     public void validateFile(MultipartFile file) {
         if (file.isEmpty()) throw new FileHandlingException(ErrorCode.FILE_EMPTY);
 
-        if (!Objects.requireNonNull(file.getOriginalFilename()).toLowerCase().endsWith(".pdf"))
+        validateFileName(file.getOriginalFilename());
+    }
+
+    public void validateFileName(String fileName) {
+        if (DocumentFormat.fromFileName(Objects.requireNonNull(fileName)) == null)
             throw new FileHandlingException(ErrorCode.INVALID_FILE_EXTENSION);
     }
 
-    public String saveTempFile(MultipartFile file) throws IOException {
-        String originalName = file.getOriginalFilename();
-        String tempFileName = UUID.randomUUID() + "_" + originalName;
+    // Chunked 요청(길이 -1)은 허용하고, 읽는 동안 maxStreamBytes 로 제한
+    public void validateStreamLength(long contentLength) {
+        if (contentLength == 0) throw new FileHandlingException(ErrorCode.FILE_EMPTY);
+        if (contentLength > maxStreamBytes) throw new FileHandlingException(ErrorCode.FILE_SIZE_EXCEEDED);
+    }
+
+    // Admission 판단용 예상 크기 (길이를 모르면 허용 상한으로 가정)
+    public long expectedStreamBytes(long contentLength) {
+        return contentLength >= 0 ? contentLength : maxStreamBytes;
+    }
 
-        Path path = Path.of(FileConstant.TEMP_DIR, tempFileName);
-        Files.copy(file.getInputStream(), path, StandardCopyOption.REPLACE_EXISTING);
+    // 페이지 수는 요청 스레드에서 PDF 를 열지 않고, 스케줄러가 파일 크기로 추정 (실제 값은 추출 단계에서 확인)
+    public StoredUpload storeUpload(MultipartFile file) {
+        try (InputStream in = file.getInputStream()) {
+            return storeStream(in, file.getSize(), file.getOriginalFilename());
+        } catch (IOException e) {
+            log.error("Failed to read upload: {}", file.getOriginalFilename(), e);
+            throw new FileHandlingException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+    }
+
+    // 앞부분만 먼저 읽어 형식을 판별한 뒤, 나머지와 이어 붙여 저장소로 한 번에 흘려보냄 (Hash 계산 / 저장 동시 수행)
+    public StoredUpload storeStream(InputStream content, long contentLength, String fileName) {
+        return storeStream(content, contentLength, fileName, maxStreamBytes);
+    }
+
+    private StoredUpload storeStream(InputStream content, long contentLength, String fileName, long maxBytes) {
+        StoredBlob storedBlob;
+        DocumentFormat format;
+        try {
+            byte[] head = content.readNBytes(DocumentFormat.SNIFF_BYTES);
+            if (head.length == 0) throw new FileHandlingException(ErrorCode.FILE_EMPTY);
+
+            // 확장자가 아닌 실제 내용으로 형식 판별 (추출기 선택에 사용), 저장 전에 거부
+            format = DocumentFormat.sniff(head, fileName);
+            if (format == null) throw new FileHandlingException(ErrorCode.INVALID_FILE_EXTENSION);
+
+            InputStream in = new SizeLimitedInputStream(
+                    new SequenceInputStream(new ByteArrayInputStream(head), content), maxBytes);
+            storedBlob = blobStorageService.store(in, contentLength);
+        } catch (SizeLimitExceededException e) {
+            throw new FileHandlingException(ErrorCode.FILE_SIZE_EXCEEDED);
+        } catch (IOException e) {
+            log.error("Failed to store upload stream", e);
+            throw new FileHandlingException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+
+        // 스트리밍 업로드는 페이지 수를 세지 않음 (스케줄러가 파일 크기로 추정)
+        return new StoredUpload(storedBlob.key(), storedBlob.size(), format.getMimeType());
+    }
+
+    public void release(StoredUpload storedUpload) {
+        blobStorageService.release(storedUpload.blobKey());
+    }
+
+    // 여러 파일 일괄 저장 (ZIP 파일은 항목별로 풀어서 저장)
+    public List<NamedUpload> storeBulk(List<MultipartFile> files) {
+        List<NamedUpload> uploads = new ArrayList<>();
+        try {
+            for (MultipartFile file : files) {
+                if (file.isEmpty()) continue;
+                String fileName = Objects.requireNonNull(file.getOriginalFilename());
+
+                if (fileName.toLowerCase().endsWith(".zip")) {
+                    try (InputStream in = file.getInputStream()) {
+                        storeArchiveEntries(in, uploads);
+                    }
+                } else {
+                    validateFileName(fileName);
+                    checkBulkLimit(uploads);
+                    uploads.add(new NamedUpload(fileName, storeUpload(file)));
+                }
+            }
+            return uploads;
+        } catch (IOException | RuntimeException e) {
+            uploads.forEach(upload -> release(upload.storedUpload()));
+            if (e instanceof FileHandlingException fileHandlingException) throw fileHandlingException;
+            log.error("Failed to store bulk upload", e);
+            throw new FileHandlingException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+    }
+
+    public List<NamedUpload> storeArchive(InputStream content) {
+        List<NamedUpload> uploads = new ArrayList<>();
+        try {
+            // 길이를 모르는 요청 본문도 압축된 크기 기준으로 상한 적용
+            storeArchiveEntries(new SizeLimitedInputStream(content, maxStreamBytes), uploads);
+            return uploads;
+        } catch (IOException | RuntimeException e) {
+            uploads.forEach(upload -> release(upload.storedUpload()));
+            if (e instanceof FileHandlingException fileHandlingException) throw fileHandlingException;
+            if (e instanceof SizeLimitExceededException) throw new FileHandlingException(ErrorCode.FILE_SIZE_EXCEEDED);
+            log.error("Failed to store archive upload", e);
+            throw new FileHandlingException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+    }
+
+    // 압축을 디스크에 풀지 않고 항목 스트림을 하나씩 저장소로 바로 흘려보냄
+    // 항목 헤더의 크기는 없거나(-1) 조작될 수 있으므로 실제로 풀린 바이트 수로 항목별 / 전체 상한을 적용
+    private void storeArchiveEntries(InputStream content, List<NamedUpload> uploads) throws IOException {
+        ZipInputStream zip = new ZipInputStream(content);
+        long remainingBytes = maxArchiveBytes;
+        ZipEntry entry;
+        while ((entry = zip.getNextEntry()) != null) {
+            Path entryPath = Path.of(entry.getName()).getFileName();
+            if (entryPath == null) continue;
+
+            String fileName = entryPath.toString();
+            if (entry.isDirectory() || entry.getName().startsWith("__MACOSX/") || fileName.startsWith(".")
+                    || DocumentFormat.fromFileName(fileName) == null) {
+                continue;
+            }
+            checkBulkLimit(uploads);
+            if (remainingBytes <= 0) throw new FileHandlingException(ErrorCode.FILE_SIZE_EXCEEDED);
+
+            // 항목 저장 후에도 다음 항목을 읽어야 하므로 ZIP 스트림은 닫지 않음
+            InputStream entryStream = new FilterInputStream(zip) {
+                @Override
+                public void close() {
+                }
+            };
+
+            try {
+                StoredUpload storedUpload = storeStream(entryStream, -1, fileName, Math.min(maxStreamBytes, remainingBytes));
+                uploads.add(new NamedUpload(fileName, storedUpload));
+                remainingBytes -= storedUpload.size();
+            } catch (FileHandlingException e) {
+                if (e.getErrorCode() != ErrorCode.INVALID_FILE_EXTENSION) throw e;
+                log.warn("Skip unsupported archive entry: {}", entry.getName());
+            }
+        }
+    }
+
+    private void checkBulkLimit(List<NamedUpload> uploads) {
+        if (uploads.size() >= maxBulkFiles) throw new FileHandlingException(ErrorCode.TOO_MANY_FILES);
+    }
+
+    public record StoredUpload(String blobKey, long size, String mimeType) {
+    }
 
-        return path.toString();
+    public record NamedUpload(String fileName, StoredUpload storedUpload) {
     }
 }
\ No newline at end of file
@@ -0,0 +1,251 @@
+package com.docweave.server.doc.service.component.journal;
+
+import com.docweave.server.doc.entity.ChatMessage;
+import com.docweave.server.doc.entity.ChatMessage.MessageRole;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 채팅 메시지 Write-behind 저널: 메시지는 즉시 ID / 시각을 부여받아 메모리 버퍼에 쌓이고, 짧은 주기로 Multi-row INSERT 로 반영됨
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageJournal {
+
+    private static final String INSERT_PREFIX = "INSERT INTO chat_message (room_id, role, content, created_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${docweave.chat.journal.batch-size:500}")
+    private int batchSize;
+
+    // 미반영 메시지 상한: 넘으면 호출 스레드가 직접 반영하고, DB 장애로 그래도 비우지 못하면 새 메시지를 거절
+    @Value("${docweave.chat.journal.max-pending:10000}")
+    private int maxPending;
+
+    @Value("${docweave.chat.journal.flushed-retention-ms:5000}")
+    private long flushedRetentionMillis;
+
+    // 저널 반영은 사용자 없이 실행되어 Read-your-writes 가 적용되지 않으므로, Replica 가 따라잡을 때까지(최대 max-lag) overlay 에 남겨 둠
+    @Value("${spring.datasource.replica.enabled:false}")
+    private boolean replicaEnabled;
+
+    @Value("${spring.datasource.replica.max-lag-ms:10000}")
+    private long replicaMaxLagMillis;
+
+    // DB 일시 장애로 반영하지 못한 배치는 순서를 유지한 채 맨 앞으로 되돌림
+    private final Deque<JournalEntry> pending = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    // Read-your-writes overlay: 방별 미반영 메시지와 최근 반영된 메시지
+    private final Map<Long, Deque<JournalEntry>> overlay = new ConcurrentHashMap<>();
+
+    private final Object appendLock = new Object();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private long lastJournalId;
+    private LocalDateTime lastCreatedAt = LocalDateTime.MIN;
+
+    public JournalEntry append(Long roomId, MessageRole role, String content) {
+        if (pendingCount.get() >= maxPending) {
+            flush();
+            if (pendingCount.get() >= maxPending) {
+                throw new IllegalStateException("Chat message journal is full. pending: " + pendingCount.get());
+            }
+        }
+
+        synchronized (appendLock) {
+            // 저장 순서 = 생성 시각 순서가 되도록 단조 증가하는 마이크로초 단위 시각 부여
+            LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+            lastCreatedAt = now.isAfter(lastCreatedAt) ? now : lastCreatedAt.plus(1, ChronoUnit.MICROS);
+
+            JournalEntry entry = new JournalEntry(++lastJournalId, roomId, role, content, lastCreatedAt);
+            overlay.compute(roomId, (key, entries) -> {
+                Deque<JournalEntry> target = entries != null ? entries : new ConcurrentLinkedDeque<>();
+                target.addLast(entry);
+                return target;
+            });
+            pending.add(entry);
+            pendingCount.incrementAndGet();
+            return entry;
+        }
+    }
+
+    // DB 에서 읽은 메시지에 아직 반영되지 않은 메시지를 합쳐 생성 시각 순으로 반환
+    public List<ChatMessage> merge(Long roomId, List<ChatMessage> persisted) {
+        Deque<JournalEntry> entries = overlay.get(roomId);
+        if (entries == null || entries.isEmpty()) return persisted;
+
+        Set<String> persistedKeys = new HashSet<>();
+        persisted.forEach(msg -> persistedKeys.add(key(msg.getCreatedAt(), msg.getRole())));
+
+        List<ChatMessage> merged = new ArrayList<>(persisted);
+        for (JournalEntry entry : entries) {
+            if (!persistedKeys.contains(key(entry.getCreatedAt(), entry.getRole()))) {
+                merged.add(entry.toChatMessage());
+            }
+        }
+        merged.sort(Comparator.comparing(ChatMessage::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder())));
+        return merged;
+    }
+
+    // 방 삭제 시 해당 방의 미반영 메시지 폐기 (진행 중인 Flush 가 끝난 뒤 폐기)
+    public void discardRoom(Long roomId) {
+        flushLock.lock();
+        try {
+            Deque<JournalEntry> entries = overlay.remove(roomId);
+            if (entries != null) entries.forEach(entry -> entry.discarded = true);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${docweave.chat.journal.flush-interval-ms:200}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<JournalEntry> batch;
+            while (!(batch = drain()).isEmpty()) {
+                List<JournalEntry> retry = insert(batch);
+                long flushedAt = System.currentTimeMillis();
+                // 재시도 대상은 항상 배치의 뒷부분
+                batch.subList(0, batch.size() - retry.size()).forEach(entry -> entry.flushedAt = flushedAt);
+
+                if (!retry.isEmpty()) {
+                    // 남은 메시지는 overlay 에 그대로 두고 다음 주기에 다시 시도
+                    for (int i = retry.size() - 1; i >= 0; i--) pending.addFirst(retry.get(i));
+                    pendingCount.addAndGet(retry.size());
+                    break;
+                }
+            }
+            evictFlushed();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("Flushing chat message journal before shutdown. pending: {}", pendingCount.get());
+        flush();
+        if (!pending.isEmpty()) log.error("Chat messages left unflushed at shutdown. pending: {}", pendingCount.get());
+    }
+
+    private List<JournalEntry> drain() {
+        List<JournalEntry> batch = new ArrayList<>();
+        JournalEntry entry;
+        while (batch.size() < batchSize && (entry = pending.poll()) != null) {
+            pendingCount.decrementAndGet();
+            if (!entry.discarded) batch.add(entry);
+        }
+        return batch;
+    }
+
+    // 다시 시도해야 할 뒷부분 메시지를 반환 (DB 연결 / Timeout 등 일시 장애), 제약 조건 위반 행만 버림
+    private List<JournalEntry> insert(List<JournalEntry> batch) {
+        try {
+            String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(batch.size(), ROW_PLACEHOLDER));
+            List<Object> args = new ArrayList<>(batch.size() * 4);
+            batch.forEach(entry -> addArgs(args, entry));
+            jdbcTemplate.update(sql, args.toArray());
+            return List.of();
+
+        } catch (DataIntegrityViolationException e) {
+            // 일부 행(예: 삭제된 방의 메시지) 때문에 실패한 경우 행 단위로 재시도
+            log.warn("Batched chat message insert violated a constraint, retrying row by row. size: {}", batch.size(), e);
+
+        } catch (DataAccessException e) {
+            log.warn("Chat message flush failed, will retry. size: {}", batch.size(), e);
+            return batch;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            JournalEntry entry = batch.get(i);
+            try {
+                List<Object> args = new ArrayList<>(4);
+                addArgs(args, entry);
+                jdbcTemplate.update(INSERT_PREFIX + ROW_PLACEHOLDER, args.toArray());
+            } catch (DataIntegrityViolationException rowError) {
+                log.error("Dropping chat message that violates a constraint. roomId: {}, journalId: {}",
+                        entry.getRoomId(), entry.getJournalId(), rowError);
+            } catch (DataAccessException rowError) {
+                log.warn("Chat message flush failed, will retry. remaining: {}", batch.size() - i, rowError);
+                return batch.subList(i, batch.size());
+            }
+        }
+        return List.of();
+    }
+
+    private void addArgs(List<Object> args, JournalEntry entry) {
+        args.add(entry.getRoomId());
+        args.add(entry.getRole().name());
+        args.add(entry.getContent());
+        args.add(Timestamp.valueOf(entry.getCreatedAt()));
+    }
+
+    private void evictFlushed() {
+        long retention = replicaEnabled ? Math.max(flushedRetentionMillis, replicaMaxLagMillis) : flushedRetentionMillis;
+        long threshold = System.currentTimeMillis() - retention;
+        for (Long roomId : overlay.keySet()) {
+            overlay.computeIfPresent(roomId, (key, entries) -> {
+                entries.removeIf(entry -> entry.flushedAt > 0 && entry.flushedAt < threshold);
+                return entries.isEmpty() ? null : entries;
+            });
+        }
+    }
+
+    private String key(LocalDateTime createdAt, MessageRole role) {
+        return createdAt + "|" + role;
+    }
+
+    @Getter
+    public static class JournalEntry {
+        private final long journalId;
+        private final Long roomId;
+        private final MessageRole role;
+        private final String content;
+        private final LocalDateTime createdAt;
+
+        private volatile long flushedAt;
+        private volatile boolean discarded;
+
+        JournalEntry(long journalId, Long roomId, MessageRole role, String content, LocalDateTime createdAt) {
+            this.journalId = journalId;
+            this.roomId = roomId;
+            this.role = role;
+            this.content = content;
+            this.createdAt = createdAt;
+        }
+
+        ChatMessage toChatMessage() {
+            return ChatMessage.builder()
+                    .role(role)
+                    .content(content)
+                    .createdAt(createdAt)
+                    .build();
+        }
+    }
+}
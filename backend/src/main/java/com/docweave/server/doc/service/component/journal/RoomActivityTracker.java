@@ -0,0 +1,82 @@
+package com.docweave.server.doc.service.component.journal;
+
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 채팅방 lastActiveAt 갱신을 메모리에 모아 두었다가 주기적으로 한 번의 UPDATE 로 반영 (요청마다 채팅방 행을 잠그지 않음)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomActivityTracker {
+
+    private static final String UPDATE_PREFIX = "UPDATE chat_room AS r SET last_active_at = v.last_active_at FROM (VALUES ";
+    private static final String UPDATE_SUFFIX = ") AS v(id, last_active_at) "
+            + "WHERE r.id = v.id AND (r.last_active_at IS NULL OR r.last_active_at < v.last_active_at)";
+    private static final String ROW_PLACEHOLDER = "(CAST(? AS bigint), CAST(? AS timestamp))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    public void touch(Long roomId) {
+        LocalDateTime now = LocalDateTime.now();
+        pending.merge(roomId, now, (previous, current) -> current.isAfter(previous) ? current : previous);
+    }
+
+    // 아직 반영되지 않은 최신 활동 시각 (없으면 null)
+    public LocalDateTime getPendingActivity(Long roomId) {
+        return pending.get(roomId);
+    }
+
+    public void forget(Long roomId) {
+        pending.remove(roomId);
+    }
+
+    @Scheduled(fixedDelayString = "${docweave.chat.activity.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) return;
+
+        List<Long> roomIds = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        for (Long roomId : pending.keySet()) {
+            LocalDateTime lastActiveAt = pending.remove(roomId);
+            if (lastActiveAt == null) continue;
+
+            roomIds.add(roomId);
+            args.add(roomId);
+            args.add(Timestamp.valueOf(lastActiveAt));
+        }
+        if (roomIds.isEmpty()) return;
+
+        String sql = UPDATE_PREFIX + String.join(", ", Collections.nCopies(roomIds.size(), ROW_PLACEHOLDER)) + UPDATE_SUFFIX;
+        try {
+            jdbcTemplate.update(sql, args.toArray());
+            log.debug("Flushed lastActiveAt for {} rooms", roomIds.size());
+
+        } catch (DataAccessException e) {
+            // 실패 시 다음 주기에 재시도 (그 사이 더 최신 값이 기록되었으면 그 값을 유지)
+            log.warn("Failed to flush room activity. rooms: {}", roomIds.size(), e);
+            for (int i = 0; i < roomIds.size(); i++) {
+                LocalDateTime lastActiveAt = ((Timestamp) args.get(i * 2 + 1)).toLocalDateTime();
+                pending.merge(roomIds.get(i), lastActiveAt, (current, failed) -> current.isAfter(failed) ? current : failed);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
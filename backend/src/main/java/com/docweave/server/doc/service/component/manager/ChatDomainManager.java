@@ -8,16 +8,25 @@ import com.docweave.server.doc.dto.ChatRoomDto;
 import com.docweave.server.doc.entity.ChatDocument;
 import com.docweave.server.doc.entity.ChatDocument.ProcessingStatus;
 import com.docweave.server.doc.entity.ChatMessage;
+import com.docweave.server.doc.entity.ChatMessage.MessageRole;
 import com.docweave.server.doc.entity.ChatRoom;
 import com.docweave.server.doc.exception.ChatRoomFindingException;
 import com.docweave.server.doc.repository.ChatDocumentRepository;
 import com.docweave.server.doc.repository.ChatMessageRepository;
 import com.docweave.server.doc.repository.ChatRoomRepository;
+import com.docweave.server.doc.repository.DocContentDictionaryRepository;
+import com.docweave.server.doc.service.component.journal.ChatMessageJournal;
+import com.docweave.server.doc.service.component.journal.RoomActivityTracker;
+import com.docweave.server.doc.service.component.segment.ParentSegmentStore;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,11 +37,21 @@ public class ChatDomainManager {
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final ChatDocumentRepository chatDocumentRepository;
+    private final DocContentDictionaryRepository dictionaryRepository;
     private final UserRepository userRepository;
+    private final ChatMessageJournal chatMessageJournal;
+    private final RoomActivityTracker roomActivityTracker;
+    private final ParentSegmentStore parentSegmentStore;
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final int RECENT_HISTORY_SIZE = 6;
 
     @Transactional(readOnly = true)
     public List<ChatRoomDto> getAllChatRooms(Long userId) {
+        // DB 값보다 최신인 미반영 활동 시각을 반영하여 정렬
         return chatRoomRepository.findAllByUserIdOrderByLastActiveAtDesc(userId).stream()
+                .sorted(Comparator.comparing(this::effectiveLastActiveAt,
+                        Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder())))
                 .map(room -> ChatRoomDto.builder()
                         .id(room.getId())
                         .title(room.getTitle())
@@ -43,7 +62,10 @@ public class ChatDomainManager {
 
     @Transactional(readOnly = true)
     public List<ChatMessageDto> getChatMessages(Long roomId) {
-        return chatMessageRepository.findAllByChatRoomIdOrderByCreatedAtAscIdAsc(roomId).stream()
+        List<ChatMessage> persisted = chatMessageRepository.findAllByChatRoomIdOrderByCreatedAtAscIdAsc(roomId);
+
+        // 아직 DB 에 반영되지 않은 메시지도 함께 조회
+        return chatMessageJournal.merge(roomId, persisted).stream()
                 .map(msg -> ChatMessageDto.builder()
                         .role(msg.getRole().name().toLowerCase())
                         .content(msg.getContent())
@@ -70,27 +92,84 @@ public class ChatDomainManager {
                 .build());
     }
 
+    // 일괄 업로드 문서를 한 번의 INSERT 로 생성하고 입력 순서대로 ID 반환
+    public List<Long> createChatDocuments(ChatRoom chatRoom, List<String> fileNames) {
+        if (fileNames.isEmpty()) return List.of();
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object> args = new ArrayList<>(fileNames.size() * 4);
+        for (String fileName : fileNames) {
+            args.add(chatRoom.getId());
+            args.add(fileName);
+            args.add(ProcessingStatus.PENDING.name());
+            args.add(now);
+        }
+
+        String sql = "INSERT INTO chat_document (room_id, file_name, status, created_at) VALUES "
+                + String.join(",", Collections.nCopies(fileNames.size(), "(?, ?, ?, ?)"))
+                + " RETURNING id";
+        List<Long> ids = jdbcTemplate.queryForList(sql, Long.class, args.toArray());
+
+        // IDENTITY 값은 VALUES 순서대로 할당되므로 정렬하면 입력 순서와 일치
+        return ids.stream().sorted().toList();
+    }
+
+    // 아직 분석 중인 문서의 검색 가능 범위 (모두 완료되었으면 null)
+    @Transactional(readOnly = true)
+    public String getIndexingCoverage(Long roomId) {
+        List<ChatDocument> documents = chatDocumentRepository.findAllByChatRoomIdAndStatusIn(
+                roomId, List.of(ProcessingStatus.PENDING, ProcessingStatus.PROCESSING));
+        if (documents.isEmpty()) return null;
+
+        return documents.stream()
+                .map(document -> {
+                    Integer total = document.getTotalPages();
+                    if (total == null || total <= 0) return document.getFileName() + " 분석 중";
+
+                    int indexed = document.getIndexedPages() != null ? document.getIndexedPages() : 0;
+                    return document.getFileName() + " " + indexed + "/" + total + " 페이지";
+                })
+                .collect(Collectors.joining(", ", "일부 문서는 분석 중이라 검색된 범위에서만 답변했습니다. (", ")"));
+    }
+
+    @Transactional(readOnly = true)
     public ChatRoom findChatRoomById(Long userId, Long roomId) {
         return chatRoomRepository.findByIdAndUserId(roomId, userId)
                 .orElseThrow(() -> new ChatRoomFindingException(ErrorCode.CHATROOM_NOT_FOUND));
     }
 
-    public void updateLastActiveAt(ChatRoom chatRoom) {
-        chatRoom.updateLastActiveAt();
+    public void updateLastActiveAt(Long roomId) {
+        roomActivityTracker.touch(roomId);
     }
 
-    public void saveChatMessage(ChatMessage message) {
-        chatMessageRepository.save(message);
+    private LocalDateTime effectiveLastActiveAt(ChatRoom room) {
+        LocalDateTime pendingActivity = roomActivityTracker.getPendingActivity(room.getId());
+        if (pendingActivity == null) return room.getLastActiveAt();
+        if (room.getLastActiveAt() == null) return pendingActivity;
+        return pendingActivity.isAfter(room.getLastActiveAt()) ? pendingActivity : room.getLastActiveAt();
     }
 
+    public void appendChatMessage(Long roomId, MessageRole role, String content) {
+        chatMessageJournal.append(roomId, role, content);
+    }
+
+    @Transactional(readOnly = true)
     public List<ChatMessage> getRecentChatHistory(Long roomId) {
         List<ChatMessage> chatHistoryList = chatMessageRepository.findTop6ByChatRoomIdOrderByCreatedAtDesc(roomId);
         Collections.reverse(chatHistoryList);
-        return chatHistoryList;
+
+        List<ChatMessage> merged = chatMessageJournal.merge(roomId, chatHistoryList);
+        return merged.subList(Math.max(0, merged.size() - RECENT_HISTORY_SIZE), merged.size());
     }
 
     public void deleteChatRoom(Long userId, Long roomId) {
         ChatRoom chatRoom = findChatRoomById(userId, roomId);
+        List<Long> documentIds = jdbcTemplate.queryForList("SELECT id FROM chat_document WHERE room_id = ?", Long.class, roomId);
+        chatMessageJournal.discardRoom(roomId);
+        roomActivityTracker.forget(roomId);
         chatRoomRepository.delete(chatRoom);
+        // 압축 사전은 문서와 연관 관계가 없어 Cascade 되지 않으므로 문서 삭제 후 정리 (실패분은 기동 시 고아 정리)
+        if (!documentIds.isEmpty()) dictionaryRepository.deleteAllByIdInBatch(documentIds);
+        parentSegmentStore.dropRoom(roomId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.docweave.server.doc.service.component.parser;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+// 업로드 허용 형식 (확장자로 선언된 형식을 파일 앞부분 바이트로 검증)
+public enum DocumentFormat {
+    PDF("application/pdf", List.of(".pdf")),
+    DOCX("application/vnd.openxmlformats-officedocument.wordprocessingml.document", List.of(".docx")),
+    HTML("text/html", List.of(".html", ".htm")),
+    MARKDOWN("text/markdown", List.of(".md", ".markdown")),
+    TEXT("text/plain", List.of(".txt"));
+
+    // 판별에 필요한 앞부분 바이트 수
+    public static final int SNIFF_BYTES = 512;
+
+    private static final byte[] PDF_MAGIC = "%PDF-".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ZIP_MAGIC = {'P', 'K', 3, 4};
+
+    private final String mimeType;
+    private final List<String> extensions;
+
+    DocumentFormat(String mimeType, List<String> extensions) {
+        this.mimeType = mimeType;
+        this.extensions = extensions;
+    }
+
+    public String getMimeType() {
+        return mimeType;
+    }
+
+    public static DocumentFormat fromFileName(String fileName) {
+        if (fileName == null) return null;
+        String lower = fileName.toLowerCase(Locale.ROOT);
+        for (DocumentFormat format : values()) {
+            if (format.extensions.stream().anyMatch(lower::endsWith)) return format;
+        }
+        return null;
+    }
+
+    // 이전 작업(mimeType 없음)은 모두 PDF
+    public static DocumentFormat fromMimeType(String mimeType) {
+        if (mimeType == null) return PDF;
+        for (DocumentFormat format : values()) {
+            if (format.mimeType.equals(mimeType)) return format;
+        }
+        return null;
+    }
+
+    // 실제 내용이 선언된 형식과 맞는지 확인 (맞지 않으면 null)
+    public static DocumentFormat sniff(byte[] head, String fileName) {
+        if (startsWith(head, PDF_MAGIC)) return PDF;
+
+        DocumentFormat declared = fromFileName(fileName);
+        if (declared == null || declared == PDF) return null;
+        if (declared == DOCX) return startsWith(head, ZIP_MAGIC) ? DOCX : null;
+
+        // 텍스트 계열은 NUL 바이트가 없어야 하며 (UTF-16 BOM 으로 시작하면 예외), HTML 문서는 확장자와 무관하게 HTML 로 처리
+        Charset utf16 = utf16Charset(head);
+        if (utf16 == null && !isText(head)) return null;
+        String prefix = (utf16 != null ? new String(head, 2, head.length - 2, utf16) : new String(head, StandardCharsets.UTF_8))
+                .replace("\uFEFF", "")
+                .stripLeading()
+                .toLowerCase(Locale.ROOT);
+        if (prefix.startsWith("<!doctype html") || prefix.startsWith("<html")) return HTML;
+        return declared;
+    }
+
+    private static boolean startsWith(byte[] head, byte[] magic) {
+        if (head.length < magic.length) return false;
+        for (int i = 0; i < magic.length; i++) {
+            if (head[i] != magic[i]) return false;
+        }
+        return true;
+    }
+
+    private static Charset utf16Charset(byte[] head) {
+        if (head.length < 2) return null;
+        if ((head[0] & 0xFF) == 0xFE && (head[1] & 0xFF) == 0xFF) return StandardCharsets.UTF_16BE;
+        if ((head[0] & 0xFF) == 0xFF && (head[1] & 0xFF) == 0xFE) return StandardCharsets.UTF_16LE;
+        return null;
+    }
+
+    private static boolean isText(byte[] head) {
+        for (byte b : head) {
+            if (b == 0) return false;
+        }
+        return true;
+    }
+}
@@ -7,9 +7,10 @@ import org.springframework.stereotype.Component;
 @Component
 public class HtmlToMarkdownConverter {
 
-    public String convert(String html) {
-        if (html == null || html.isEmpty()) return "";
+    // 변환기는 불변이며 변환 상태는 호출마다 따로 생성되므로 한 번만 만들어 공유
+    private final FlexmarkHtmlConverter converter;
 
+    public HtmlToMarkdownConverter() {
         MutableDataSet options = new MutableDataSet();
 
         // HTML 태그 내 속성 무시
@@ -23,6 +24,12 @@ public class HtmlToMarkdownConverter {
         // 숫자 리스트 변환 시 1) 도 허용
         options.set(FlexmarkHtmlConverter.DOT_ONLY_NUMERIC_LISTS, false);
 
-        return FlexmarkHtmlConverter.builder(options).build().convert(html);
+        this.converter = FlexmarkHtmlConverter.builder(options).build();
+    }
+
+    public String convert(String html) {
+        if (html == null || html.isEmpty()) return "";
+
+        return converter.convert(html);
     }
-}
\ No newline at end of file
+}
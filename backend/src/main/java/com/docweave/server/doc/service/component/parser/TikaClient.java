@@ -2,50 +2,88 @@ package com.docweave.server.doc.service.component.parser;
 
 import com.docweave.server.common.exception.ErrorCode;
 import com.docweave.server.doc.exception.FileHandlingException;
-import java.io.File;
-import lombok.RequiredArgsConstructor;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.MediaType;
-import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class TikaClient {
 
-    @Value("${docweave.tika.base-url}")
-    private String tikaUrl;
+    private final WebClient webClient;
+    private final ConnectionProvider connectionProvider;
+    private final int maxInFlight;
+    // Tika 서버로 동시에 보내는 요청 수 제한 (서버 처리 능력에 맞춰 설정)
+    private final Semaphore inFlight;
+    private final long acquireTimeoutMs;
+    private final Duration responseTimeout;
 
-    public String parsePdfToXhtml(File file) {
-        log.info("Tika Request: File Name={}, Size={} bytes", file.getName(), file.length());
+    public TikaClient(
+            @Value("${docweave.tika.base-url}") String tikaUrl,
+            @Value("${docweave.tika.max-in-flight:4}") int maxInFlight,
+            @Value("${docweave.tika.acquire-timeout-ms:60000}") long acquireTimeoutMs,
+            @Value("${docweave.tika.connect-timeout-ms:5000}") int connectTimeoutMs,
+            @Value("${docweave.tika.response-timeout-ms:300000}") long responseTimeoutMs) {
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight, true);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.responseTimeout = Duration.ofMillis(responseTimeoutMs);
 
-        try {
-            ExchangeStrategies strategies = ExchangeStrategies.builder()
-                    .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(50 * 1024 * 1024))
-                    .build();
+        // 호출마다 WebClient 를 만들지 않고 Connection Pool 을 공유
+        this.connectionProvider = ConnectionProvider.builder("tika")
+                .maxConnections(maxInFlight)
+                .pendingAcquireTimeout(Duration.ofMillis(acquireTimeoutMs))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(responseTimeout);
+
+        ExchangeStrategies strategies = ExchangeStrategies.builder()
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(50 * 1024 * 1024))
+                .build();
 
-            WebClient webClient = WebClient.builder()
-                    .baseUrl(tikaUrl)
-                    .exchangeStrategies(strategies)
-                    .build();
+        this.webClient = WebClient.builder()
+                .baseUrl(tikaUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .exchangeStrategies(strategies)
+                .build();
+    }
+
+    // Multipart 로 감싸지 않고 원본 스트림을 그대로 PUT (파일이면 Zero-copy 전송)
+    public String parseToXhtml(Resource resource) {
+        log.info("Tika Request: Resource={}", resource.getDescription());
 
-            MultipartBodyBuilder builder = new MultipartBodyBuilder();
-            builder.part("file", new FileSystemResource(file));
+        boolean acquired = false;
+        try {
+            acquired = inFlight.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+            if (!acquired) {
+                log.error("Tika is busy. Timed out waiting for a slot. Resource={}", resource.getDescription());
+                throw new FileHandlingException(ErrorCode.FILE_UPLOAD_FAILED);
+            }
 
-            String response = webClient.post()
-                    .uri("/tika/form")
-                    .contentType(MediaType.MULTIPART_FORM_DATA)
+            String response = webClient.put()
+                    .uri("/tika")
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
                     .accept(MediaType.TEXT_HTML)
-                    .body(BodyInserters.fromMultipartData(builder.build()))
+                    .body(BodyInserters.fromResource(resource))
                     .retrieve()
                     .bodyToMono(String.class)
-                    .block();
+                    .block(responseTimeout);
 
             if (response == null || response.isBlank()) {
                 log.error("Tika Response is null or empty)");
@@ -55,9 +93,25 @@ public class TikaClient {
             log.info("Tika Parsing Success.");
             return response;
 
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FileHandlingException(ErrorCode.FILE_UPLOAD_FAILED);
+        } catch (FileHandlingException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Tika Parsing Failed", e);
             throw new FileHandlingException(ErrorCode.FILE_UPLOAD_FAILED);
+        } finally {
+            if (acquired) inFlight.release();
         }
     }
-}
\ No newline at end of file
+
+    public int maxInFlight() {
+        return maxInFlight;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connectionProvider.dispose();
+    }
+}
@@ -0,0 +1,20 @@
+package com.docweave.server.doc.service.component.parser.extractor;
+
+import com.docweave.server.doc.service.component.parser.DocumentFormat;
+import java.io.IOException;
+import org.springframework.core.io.Resource;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// 형식별 본문 추출기 (결과는 Chunking 에 바로 넣을 수 있는 Markdown)
+public interface DocumentExtractor {
+
+    boolean supports(DocumentFormat format);
+
+    String extractMarkdown(Resource resource) throws IOException;
+
+    // 문서를 순서대로 여러 조각으로 내보낼 수 있는 추출기는 재정의 (기본: 문서 전체를 한 조각으로)
+    default Flux<ExtractedPart> extractParts(Resource resource) {
+        return Mono.fromCallable(() -> new ExtractedPart(extractMarkdown(resource), 0, 0, 0)).flux();
+    }
+}
@@ -0,0 +1,40 @@
+package com.docweave.server.doc.service.component.parser.extractor;
+
+import com.docweave.server.doc.service.component.parser.DocumentFormat;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+// 저장 시점에 판별된 MIME Type 으로 추출기 선택 (전용 추출기가 없으면 Tika)
+@Slf4j
+@Component
+public class DocumentExtractorRegistry {
+
+    private final List<DocumentExtractor> extractors;
+    private final TikaExtractor tikaExtractor;
+
+    public DocumentExtractorRegistry(List<DocumentExtractor> extractors, TikaExtractor tikaExtractor) {
+        this.extractors = extractors.stream()
+                .filter(extractor -> extractor != tikaExtractor)
+                .toList();
+        this.tikaExtractor = tikaExtractor;
+    }
+
+    // 조각 단위로 추출 (PDF 분할 파싱 결과를 순서대로 받아 바로 다음 단계로 넘김)
+    public Flux<ExtractedPart> extractParts(String mimeType, Resource resource) {
+        DocumentExtractor extractor = resolve(DocumentFormat.fromMimeType(mimeType));
+
+        log.info("Extracting document. mimeType: {}, extractor: {}", mimeType, extractor.getClass().getSimpleName());
+        return extractor.extractParts(resource);
+    }
+
+    private DocumentExtractor resolve(DocumentFormat format) {
+        if (format == null) return tikaExtractor;
+        for (DocumentExtractor extractor : extractors) {
+            if (extractor.supports(format)) return extractor;
+        }
+        return tikaExtractor;
+    }
+}
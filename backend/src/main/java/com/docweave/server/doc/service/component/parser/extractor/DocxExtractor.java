@@ -0,0 +1,135 @@
+package com.docweave.server.doc.service.component.parser.extractor;
+
+import com.docweave.server.doc.service.component.parser.DocumentFormat;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+// DOCX 는 word/document.xml 만 StAX 로 스트리밍 파싱 (제목 스타일 → Markdown Heading, 표 → 파이프 구분)
+@Component
+@Order(3)
+public class DocxExtractor implements DocumentExtractor {
+
+    private static final String WORD_NS = "http://schemas.openxmlformats.org/wordprocessingml/2006/main";
+    private static final String DOCUMENT_ENTRY = "word/document.xml";
+
+    private final XMLInputFactory xmlInputFactory;
+
+    public DocxExtractor() {
+        this.xmlInputFactory = XMLInputFactory.newFactory();
+        // XXE 방지
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    @Override
+    public boolean supports(DocumentFormat format) {
+        return format == DocumentFormat.DOCX;
+    }
+
+    @Override
+    public String extractMarkdown(Resource resource) throws IOException {
+        try (ZipInputStream zip = new ZipInputStream(resource.getInputStream())) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (DOCUMENT_ENTRY.equals(entry.getName())) return parseDocument(zip);
+            }
+        }
+        throw new IOException("word/document.xml not found in DOCX");
+    }
+
+    private String parseDocument(InputStream in) throws IOException {
+        StringBuilder markdown = new StringBuilder();
+        StringBuilder paragraph = new StringBuilder();
+        int headingLevel = 0;
+        boolean inText = false;
+        boolean inTableCell = false;
+        // Markdown 표로 인식되도록 첫 행 뒤에 구분 행(|---|)을 넣기 위한 행 / 열 수
+        int tableRow = 0;
+        int rowCells = 0;
+
+        try {
+            XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(in);
+            while (reader.hasNext()) {
+                int event = reader.next();
+
+                if (event == XMLStreamConstants.START_ELEMENT && WORD_NS.equals(reader.getNamespaceURI())) {
+                    switch (reader.getLocalName()) {
+                        case "p" -> {
+                            paragraph.setLength(0);
+                            headingLevel = 0;
+                        }
+                        case "pStyle" -> headingLevel = headingLevel(reader.getAttributeValue(WORD_NS, "val"));
+                        case "t" -> inText = true;
+                        case "tab" -> paragraph.append('\t');
+                        case "br" -> paragraph.append('\n');
+                        case "tc" -> inTableCell = true;
+                        case "tbl" -> tableRow = 0;
+                        case "tr" -> {
+                            rowCells = 0;
+                            markdown.append("| ");
+                        }
+                        default -> {
+                        }
+                    }
+                } else if (event == XMLStreamConstants.CHARACTERS && inText) {
+                    paragraph.append(reader.getText());
+                } else if (event == XMLStreamConstants.END_ELEMENT && WORD_NS.equals(reader.getNamespaceURI())) {
+                    switch (reader.getLocalName()) {
+                        case "t" -> inText = false;
+                        case "p" -> appendParagraph(markdown, paragraph, headingLevel, inTableCell);
+                        case "tc" -> {
+                            inTableCell = false;
+                            rowCells++;
+                            markdown.append(" | ");
+                        }
+                        case "tr" -> {
+                            markdown.append('\n');
+                            if (tableRow++ == 0) markdown.append('|').append("---|".repeat(Math.max(1, rowCells))).append('\n');
+                        }
+                        case "tbl" -> markdown.append('\n');
+                        default -> {
+                        }
+                    }
+                }
+            }
+            reader.close();
+        } catch (XMLStreamException e) {
+            throw new IOException("Failed to parse DOCX document", e);
+        }
+
+        return markdown.toString().trim();
+    }
+
+    private void appendParagraph(StringBuilder markdown, StringBuilder paragraph, int headingLevel, boolean inTableCell) {
+        String text = paragraph.toString().strip();
+        if (text.isEmpty()) return;
+
+        if (inTableCell) {
+            // 셀 안의 여러 단락은 한 줄로 이어 붙임
+            markdown.append(text.replace('\n', ' ')).append(' ');
+            return;
+        }
+        if (headingLevel > 0) markdown.append("#".repeat(headingLevel)).append(' ');
+        markdown.append(text).append("\n\n");
+    }
+
+    // "Title" / "Heading1" ~ "Heading6" 스타일만 제목으로 취급
+    private int headingLevel(String style) {
+        if (style == null) return 0;
+        if (style.equalsIgnoreCase("Title")) return 1;
+        if (style.regionMatches(true, 0, "Heading", 0, 7) && style.length() == 8
+                && Character.isDigit(style.charAt(7))) {
+            return Math.min(6, Math.max(1, style.charAt(7) - '0'));
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,5 @@
+package com.docweave.server.doc.service.component.parser.extractor;
+
+// 추출 결과 조각 (페이지 구간 / 전체 페이지 수를 알 수 없으면 0)
+public record ExtractedPart(String markdown, int startPage, int endPage, int totalPages) {
+}
@@ -0,0 +1,36 @@
+package com.docweave.server.doc.service.component.parser.extractor;
+
+import com.docweave.server.doc.service.component.parser.DocumentFormat;
+import com.docweave.server.doc.service.component.parser.HtmlToMarkdownConverter;
+import java.io.IOException;
+import java.io.InputStream;
+import lombok.RequiredArgsConstructor;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+// HTML 은 Tika 를 거치지 않고 jsoup 으로 정리한 뒤 프로세스 내에서 Markdown 변환
+@Component
+@Order(2)
+@RequiredArgsConstructor
+public class HtmlExtractor implements DocumentExtractor {
+
+    private final HtmlToMarkdownConverter htmlToMarkdownConverter;
+
+    @Override
+    public boolean supports(DocumentFormat format) {
+        return format == DocumentFormat.HTML;
+    }
+
+    @Override
+    public String extractMarkdown(Resource resource) throws IOException {
+        try (InputStream in = resource.getInputStream()) {
+            // charset 은 meta 태그가 있으면 그것을, 없으면 UTF-8 사용
+            Document document = Jsoup.parse(in, null, "");
+            document.select("script, style, noscript, iframe, svg").remove();
+            return htmlToMarkdownConverter.convert(document.body().html());
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.docweave.server.doc.service.component.parser.extractor;
+
+import com.docweave.server.common.constant.FileConstant;
+import com.docweave.server.doc.service.component.parser.DocumentFormat;
+import com.docweave.server.doc.service.component.parser.HtmlToMarkdownConverter;
+import com.docweave.server.doc.service.component.parser.TikaClient;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.multipdf.Splitter;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+// 대용량 PDF 는 페이지 구간으로 나눠 Tika 에 동시에 보내고, 결과를 원래 순서대로 전달
+@Slf4j
+@Component
+@Order(4)
+public class PdfExtractor implements DocumentExtractor {
+
+    private final TikaClient tikaClient;
+    private final HtmlToMarkdownConverter htmlToMarkdownConverter;
+    private final Scheduler tikaScheduler;
+    private final long splitMinBytes;
+    private final int splitMinPages;
+    private final int pagesPerPart;
+
+    public PdfExtractor(TikaClient tikaClient,
+                        HtmlToMarkdownConverter htmlToMarkdownConverter,
+                        @Qualifier("tikaTaskExecutor") Executor tikaTaskExecutor,
+                        @Value("${docweave.tika.split.min-bytes:5242880}") long splitMinBytes,
+                        @Value("${docweave.tika.split.min-pages:100}") int splitMinPages,
+                        @Value("${docweave.tika.split.pages-per-part:50}") int pagesPerPart) {
+        this.tikaClient = tikaClient;
+        this.htmlToMarkdownConverter = htmlToMarkdownConverter;
+        this.tikaScheduler = Schedulers.fromExecutor(tikaTaskExecutor);
+        this.splitMinBytes = splitMinBytes;
+        this.splitMinPages = splitMinPages;
+        this.pagesPerPart = pagesPerPart;
+    }
+
+    @Override
+    public boolean supports(DocumentFormat format) {
+        return format == DocumentFormat.PDF;
+    }
+
+    @Override
+    public String extractMarkdown(Resource resource) {
+        return extractParts(resource)
+                .map(ExtractedPart::markdown)
+                .filter(markdown -> !markdown.isBlank())
+                .map(String::strip)
+                .collect(Collectors.joining("\n\n"))
+                .block();
+    }
+
+    // 구간별 결과를 페이지 순서대로 내보냄 (동시에 파싱 중인 구간은 최대 max-in-flight 개)
+    @Override
+    public Flux<ExtractedPart> extractParts(Resource resource) {
+        return Flux.defer(() -> {
+            // 길이는 저장소 메타데이터로 판단하고, 작은 파일은 분할 비용이 더 크므로 스트림 그대로 Tika 에 전송
+            if (tikaClient.maxInFlight() <= 1 || contentLength(resource) < splitMinBytes) return whole(resource, 0);
+            if (isFile(resource)) return Flux.using(() -> load(resource), document -> split(resource, document), this::closeQuietly);
+
+            // 원격 저장소 스트림은 한 번만 읽을 수 있으므로 분할할 때만 임시 파일로 내려받음 (Heap 에 올리지 않음)
+            return Flux.using(
+                    () -> spool(resource),
+                    spooled -> Flux.using(() -> load(spooled), document -> split(spooled, document), this::closeQuietly),
+                    this::deleteQuietly);
+        });
+    }
+
+    private Flux<ExtractedPart> whole(Resource resource, int pages) {
+        return Mono.fromCallable(() -> new ExtractedPart(
+                htmlToMarkdownConverter.convert(tikaClient.parseToXhtml(resource)), pages > 0 ? 1 : 0, pages, pages)).flux();
+    }
+
+    private Flux<ExtractedPart> split(Resource source, PDDocument document) {
+        int pages = document.getNumberOfPages();
+        if (pages < splitMinPages) return whole(source, pages);
+
+        Splitter splitter = new Splitter();
+        splitter.setSplitAtPage(pagesPerPart);
+        List<PDDocument> parts;
+        try {
+            parts = splitter.split(document);
+        } catch (IOException e) {
+            return Flux.error(e);
+        }
+        log.info("Split PDF for parallel Tika parsing. pages: {}, parts: {}", pages, parts.size());
+
+        // 구간 저장(PDFBox)은 순차로, Tika 파싱만 병렬로 진행하고 결과는 원래 순서대로 방출
+        return Flux.range(0, parts.size())
+                .map(index -> new PendingPart(save(parts.get(index)),
+                        index * pagesPerPart + 1, Math.min((index + 1) * pagesPerPart, pages)))
+                .flatMapSequential(part -> Mono.fromCallable(() -> new ExtractedPart(
+                                htmlToMarkdownConverter.convert(tikaClient.parseToXhtml(
+                                        new ByteArrayResource(part.bytes(), "pdf pages " + part.startPage() + "-" + part.endPage()))),
+                                part.startPage(), part.endPage(), pages))
+                        .subscribeOn(tikaScheduler), tikaClient.maxInFlight(), 1)
+                .doFinally(signal -> parts.forEach(this::closeQuietly));
+    }
+
+    private byte[] save(PDDocument part) {
+        try (part; ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            part.save(out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void closeQuietly(PDDocument part) {
+        try {
+            part.close();
+        } catch (IOException e) {
+            log.debug("Failed to close PDF part", e);
+        }
+    }
+
+    // 길이를 알 수 없으면 분할하지 않음
+    private long contentLength(Resource resource) {
+        try {
+            return resource.contentLength();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private boolean isFile(Resource resource) {
+        try {
+            return resource.isFile() && resource.getFile().exists();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private Resource spool(Resource resource) throws IOException {
+        Path spooled = Files.createTempFile(Path.of(FileConstant.TEMP_DIR), "docweave-pdf-", ".pdf");
+        try (InputStream in = resource.getInputStream()) {
+            Files.copy(in, spooled, StandardCopyOption.REPLACE_EXISTING);
+            return new FileSystemResource(spooled);
+        } catch (IOException e) {
+            Files.deleteIfExists(spooled);
+            throw e;
+        }
+    }
+
+    private void deleteQuietly(Resource spooled) {
+        try {
+            Files.deleteIfExists(spooled.getFile().toPath());
+        } catch (IOException e) {
+            log.warn("Failed to delete spooled PDF: {}", spooled.getDescription());
+        }
+    }
+
+    private PDDocument load(Resource resource) throws IOException {
+        return Loader.loadPDF(resource.getFile());
+    }
+
+    private record PendingPart(byte[] bytes, int startPage, int endPage) {
+    }
+}
@@ -0,0 +1,59 @@
+package com.docweave.server.doc.service.component.parser.extractor;
+
+import com.docweave.server.doc.service.component.parser.DocumentFormat;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import org.springframework.core.io.Resource;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// Markdown / 텍스트는 변환 없이 그대로 Chunking
+@Component
+@Order(1)
+public class PlainTextExtractor implements DocumentExtractor {
+
+    @Override
+    public boolean supports(DocumentFormat format) {
+        return format == DocumentFormat.MARKDOWN || format == DocumentFormat.TEXT;
+    }
+
+    // 국내 Windows 환경에서 만든 텍스트 파일 기본 인코딩 (EUC-KR 상위 호환)
+    private static final Charset MS949 = Charset.forName("x-windows-949");
+
+    @Override
+    public String extractMarkdown(Resource resource) throws IOException {
+        try (InputStream in = resource.getInputStream()) {
+            return decode(in.readAllBytes());
+        }
+    }
+
+    // BOM 이 있으면 그 인코딩을 따르고, 없으면 엄격한 UTF-8 로 읽어 보고 실패 시 MS949 로 읽음
+    static String decode(byte[] bytes) {
+        if (startsWith(bytes, 0xEF, 0xBB, 0xBF)) return new String(bytes, 3, bytes.length - 3, StandardCharsets.UTF_8);
+        if (startsWith(bytes, 0xFE, 0xFF)) return new String(bytes, 2, bytes.length - 2, StandardCharsets.UTF_16BE);
+        if (startsWith(bytes, 0xFF, 0xFE)) return new String(bytes, 2, bytes.length - 2, StandardCharsets.UTF_16LE);
+
+        try {
+            return StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT)
+                    .decode(ByteBuffer.wrap(bytes))
+                    .toString();
+        } catch (CharacterCodingException e) {
+            return new String(bytes, MS949);
+        }
+    }
+
+    private static boolean startsWith(byte[] bytes, int... prefix) {
+        if (bytes.length < prefix.length) return false;
+        for (int i = 0; i < prefix.length; i++) {
+            if ((bytes[i] & 0xFF) != prefix[i]) return false;
+        }
+        return true;
+    }
+}
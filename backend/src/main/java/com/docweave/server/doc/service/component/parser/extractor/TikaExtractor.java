@@ -0,0 +1,27 @@
+package com.docweave.server.doc.service.component.parser.extractor;
+
+import com.docweave.server.doc.service.component.parser.DocumentFormat;
+import com.docweave.server.doc.service.component.parser.HtmlToMarkdownConverter;
+import com.docweave.server.doc.service.component.parser.TikaClient;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+// PDF 등 직접 해석하기 어려운 형식은 Tika 로 XHTML 추출 후 Markdown 변환 (Registry 의 기본값)
+@Component
+@RequiredArgsConstructor
+public class TikaExtractor implements DocumentExtractor {
+
+    private final TikaClient tikaClient;
+    private final HtmlToMarkdownConverter htmlToMarkdownConverter;
+
+    @Override
+    public boolean supports(DocumentFormat format) {
+        return true;
+    }
+
+    @Override
+    public String extractMarkdown(Resource resource) {
+        return htmlToMarkdownConverter.convert(tikaClient.parseToXhtml(resource));
+    }
+}
@@ -1,147 +1,302 @@
 package com.docweave.server.doc.service.component.processor;
 
-import com.docweave.server.common.constant.EmbeddingConstant;
+import com.docweave.server.auth.entity.User;
+import com.docweave.server.auth.repository.UserRepository;
+import com.docweave.server.common.storage.BlobStorageService;
 import com.docweave.server.doc.dto.request.DocumentIngestionRequestDto;
 import com.docweave.server.doc.entity.ChatDocument;
 import com.docweave.server.doc.entity.ChatMessage;
-import com.docweave.server.doc.entity.ChatRoom;
 import com.docweave.server.doc.entity.DocContent;
 import com.docweave.server.doc.repository.ChatDocumentRepository;
-import com.docweave.server.doc.repository.ChatMessageRepository;
-import com.docweave.server.doc.repository.ChatRoomRepository;
 import com.docweave.server.doc.repository.DocContentRepository;
-import com.docweave.server.doc.service.component.parser.HtmlToMarkdownConverter;
-import com.docweave.server.doc.service.component.parser.TikaClient;
-import java.io.File;
+import com.docweave.server.doc.service.component.chunker.ChildChunk;
+import com.docweave.server.doc.service.component.chunker.DocumentChunker;
+import com.docweave.server.doc.service.component.chunker.ParentChunk;
+import com.docweave.server.doc.service.component.compression.ParentContentCodec;
+import com.docweave.server.doc.service.component.compression.ParentContentCodec.EncodedContent;
+import com.docweave.server.doc.service.component.journal.ChatMessageJournal;
+import com.docweave.server.doc.service.component.parser.extractor.DocumentExtractorRegistry;
+import com.docweave.server.doc.service.component.parser.extractor.ExtractedPart;
+import com.docweave.server.doc.service.component.vector.ChildVector;
+import com.docweave.server.doc.service.component.vector.ChildVectorIndex;
+import com.docweave.server.doc.service.queue.IngestionGroupTracker;
+import com.docweave.server.doc.service.queue.IngestionGroupTracker.GroupProgress;
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.ai.document.Document;
-import org.springframework.ai.transformer.splitter.TokenTextSplitter;
-import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class DocumentProcessor {
 
-    private final ChatRoomRepository chatRoomRepository;
     private final ChatDocumentRepository chatDocumentRepository;
     private final DocContentRepository docContentRepository;
-    private final ChatMessageRepository chatMessageRepository;
-    private final VectorStore vectorStore;
+    private final ChatMessageJournal chatMessageJournal;
+    private final ChildVectorIndex childVectorIndex;
+    private final BlobStorageService blobStorageService;
+    private final IngestionGroupTracker ingestionGroupTracker;
 
-    private final TikaClient tikaClient;
-    private final HtmlToMarkdownConverter htmlToMarkdownConverter;
+    private final DocumentExtractorRegistry documentExtractorRegistry;
+    private final DocumentChunker documentChunker;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ParentContentCodec parentContentCodec;
+
+    @Value("${docweave.ingestion.pipeline.parent-batch-size:16}")
+    private int parentBatchSize;
+
+    @Value("${docweave.ingestion.pipeline.embedding-batch-size:64}")
+    private int embeddingBatchSize;
 
-    @Transactional
     public void execute(DocumentIngestionRequestDto request) {
         log.info("Starting document processing for docId: {}", request.getDocumentId());
 
-        ChatDocument chatDocument = chatDocumentRepository.findById(request.getDocumentId())
-                .orElse(null);
+        IngestionTarget target = transactionTemplate.execute(status -> startProcessing(request));
 
-        if (chatDocument == null) {
+        if (target == null) {
             log.error("Document not found: {}", request.getDocumentId());
+            releaseSource(request);
+            completeGroup(request, false);
             return;
         }
 
-        chatDocument.setStatus(ChatDocument.ProcessingStatus.PROCESSING);
-        File tempFile = new File(request.getTempFilePath());
+        boolean indexed = false;
+        IndexingProgress progress = new IndexingProgress();
 
         try {
-            // 1. Tika Parsing
-            String xhtmlContent = tikaClient.parsePdfToXhtml(tempFile);
+            long embedded = ingest(request, target, progress);
 
-            // 2. HTML -> Markdown 변환
-            String markdownContent = htmlToMarkdownConverter.convert(xhtmlContent);
+            if (embedded > 0) {
+                if (progress.totalPages > 0) advanceIndexedPages(target.documentId(), progress.totalPages);
+                updateStatus(target.documentId(), ChatDocument.ProcessingStatus.COMPLETED);
+                indexed = true;
+                notifyDocument(request, "✅ **" + request.getOriginalFileName() + "** 분석이 완료되었습니다. 이제 질문하실 수 있습니다!");
 
-            if (markdownContent == null || markdownContent.trim().isEmpty()) {
-                log.warn("Extracted text is empty. Tika OCR Failed. docId: {}", request.getDocumentId());
-                handleEmptyContent(chatDocument, request);
-                return;
+            } else {
+                log.warn("No chunks created from document. docId: {}", request.getDocumentId());
+                handleEmptyContent(request);
             }
 
-            Document rawDocument = new Document(markdownContent, Map.of(
-                    "source_file", request.getOriginalFileName(),
-                    "roomId", request.getRoomId()
-            ));
+            log.info("Document processing completed for docId: {}, chunks: {}", request.getDocumentId(), embedded);
 
-            List<Document> rawDocuments = List.of(rawDocument);
+        } catch (Exception e) {
+            log.error("Document processing failed", e);
+            updateStatus(target.documentId(), ChatDocument.ProcessingStatus.FAILED);
+            String message = "⚠️ **" + request.getOriginalFileName() + "** 처리 중 오류가 발생했습니다.";
+            if (progress.indexedPages > 0) message += "\n(" + progress.indexedPages + " 페이지까지의 내용은 검색할 수 있습니다.)";
+            notifyDocument(request, message);
+        } finally {
+            releaseSource(request);
+            completeGroup(request, indexed);
+        }
+    }
+
+    // 추출 -> Chunking -> Parent 저장 -> 임베딩을 배치 단위 스트림으로 처리
+    // 각 단계는 앞 단계에 정해진 크기만큼만 요청하므로 문서 크기와 무관하게 작업당 메모리 사용량이 제한됨
+    // 배치는 페이지 순서대로 Parent -> Vector 순으로 반영되므로, 반영된 앞부분은 분석 중에도 바로 검색됨
+    private long ingest(DocumentIngestionRequestDto request, IngestionTarget target, IndexingProgress progress) throws IOException {
+        Flux<ExtractedPart> parts = documentExtractorRegistry.extractParts(request.getMimeType(), openSource(request));
+        ParentContentCodec.Session codecSession = parentContentCodec.openSession(target.documentId());
+
+        // 추출 조각은 한 번에 하나씩 넘겨받고, 이후 단계(DB / 임베딩)는 Tika 스레드가 아닌 별도 스레드에서 처리
+        Long embedded = parts.publishOn(Schedulers.boundedElastic(), 1)
+                .doOnNext(part -> updateTotalPages(target, progress, part))
+                .concatMapIterable(this::chunk, 1)
+                .buffer(parentBatchSize)
+                .concatMapIterable(batch -> persistParents(request, target, codecSession, batch), 1)
+                .buffer(embeddingBatchSize)
+                .concatMap(children -> Mono.fromCallable(() -> {
+                    childVectorIndex.add(children.stream().map(EmbeddingChild::child).toList());
+                    reportProgress(request, target, progress, children);
+                    return (long) children.size();
+                }), 1)
+                .reduce(0L, Long::sum)
+                .block();
+
+        return embedded == null ? 0 : embedded;
+    }
+
+    private List<PagedChunk> chunk(ExtractedPart part) {
+        if (part.markdown() == null || part.markdown().isBlank()) return List.of();
 
-            // 3. Chunking
-            TokenTextSplitter parentSplitter = new TokenTextSplitter(EmbeddingConstant.PARENT_CHUNK_SIZE, 100, 10, 1000, true);
-            List<Document> parentDocs = parentSplitter.apply(rawDocuments);
-            List<Document> childDocsToEmbed = new ArrayList<>();
+        List<ParentChunk> parentChunks = documentChunker.split(part.markdown());
+        List<PagedChunk> pagedChunks = new ArrayList<>(parentChunks.size());
+        for (int i = 0; i < parentChunks.size(); i++) {
+            // 조각의 마지막 Chunk 가 반영되면 해당 페이지 구간 전체가 검색 가능
+            int completesPage = i == parentChunks.size() - 1 ? part.endPage() : 0;
+            pagedChunks.add(new PagedChunk(parentChunks.get(i), part.startPage(), completesPage));
+        }
+        return pagedChunks;
+    }
 
-            Long userId = chatDocument.getChatRoom().getUser().getId();
+    private void updateTotalPages(IngestionTarget target, IndexingProgress progress, ExtractedPart part) {
+        if (part.totalPages() <= 0 || part.totalPages() == progress.totalPages) return;
 
-            for (Document pDoc : parentDocs) {
-                // Parent RDB 저장
-                DocContent savedParent = docContentRepository.save(DocContent.builder()
+        progress.totalPages = part.totalPages();
+        transactionTemplate.executeWithoutResult(status ->
+                chatDocumentRepository.updateTotalPages(target.documentId(), part.totalPages()));
+    }
+
+    // 임베딩 배치 반영 후 진행률 갱신, 첫 배치가 반영되면 앞부분부터 질문할 수 있음을 알림
+    private void reportProgress(DocumentIngestionRequestDto request, IngestionTarget target,
+                                IndexingProgress progress, List<EmbeddingChild> children) {
+        int completedPage = children.stream().mapToInt(EmbeddingChild::completesPage).max().orElse(0);
+        if (completedPage <= progress.indexedPages) return;
+
+        progress.indexedPages = completedPage;
+        advanceIndexedPages(target.documentId(), completedPage);
+
+        if (!progress.partialNotified && progress.totalPages > completedPage) {
+            progress.partialNotified = true;
+            notifyDocument(request, "📄 **" + request.getOriginalFileName() + "** 앞부분(" + completedPage + "/"
+                    + progress.totalPages + " 페이지)부터 질문하실 수 있습니다. 나머지는 계속 분석 중입니다.");
+        }
+    }
+
+    private void advanceIndexedPages(Long documentId, int pages) {
+        transactionTemplate.executeWithoutResult(status -> chatDocumentRepository.advanceIndexedPages(documentId, pages));
+    }
+
+    // Parent 는 배치마다 짧은 트랜잭션으로 저장 (영속성 컨텍스트에 문서 전체가 쌓이지 않도록)
+    private List<EmbeddingChild> persistParents(DocumentIngestionRequestDto request, IngestionTarget target,
+                                                ParentContentCodec.Session codecSession, List<PagedChunk> batch) {
+        List<DocContent> savedParents = transactionTemplate.execute(status -> {
+            ChatDocument chatDocument = chatDocumentRepository.getReferenceById(target.documentId());
+            User user = userRepository.getReferenceById(target.userId());
+            List<EncodedContent> encoded = codecSession.encode(batch.stream().map(chunk -> chunk.parent().content()).toList());
+
+            List<DocContent> parents = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                parents.add(DocContent.builder()
                         .chatDocument(chatDocument)
-                        .user(chatDocument.getChatRoom().getUser())
-                        .content(pDoc.getText())
-                        .pageNumber(0)
+                        .user(user)
+                        .content(encoded.get(i).content())
+                        .compressedContent(encoded.get(i).compressedContent())
+                        .contentSize(encoded.get(i).contentSize())
+                        .pageNumber(batch.get(i).pageNumber())
                         .build());
+            }
+            return docContentRepository.saveAll(parents);
+        });
+
+        List<EmbeddingChild> children = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            ParentChunk parentChunk = batch.get(i).parent();
+            Long parentId = savedParents.get(i).getId();
+            List<ChildChunk> childChunks = parentChunk.children();
+            int cursor = 0;
 
-                // Child Chunking
-                TokenTextSplitter childSplitter = new TokenTextSplitter(EmbeddingConstant.CHILD_CHUNK_SIZE, 50, 10, 100, true);
-                List<Document> childDocs = childSplitter.apply(List.of(pDoc));
-
-                childDocs.forEach(cDoc -> {
-                    cDoc.getMetadata().put("parent_id", savedParent.getId());
-                    cDoc.getMetadata().put("roomId", request.getRoomId());
-                    cDoc.getMetadata().put("userId", userId);
-                    cDoc.getMetadata().put("source_file", request.getOriginalFileName());
-                    cDoc.getMetadata().put("page_number", 0);
-                });
-                childDocsToEmbed.addAll(childDocs);
+            for (int c = 0; c < childChunks.size(); c++) {
+                ChildChunk childChunk = childChunks.get(c);
+
+                // Child 는 대부분 Parent 본문의 일부이므로 위치만 기록 (표 머리행 반복 등으로 일부가 아니면 -1)
+                int charStart = parentChunk.content().indexOf(childChunk.content(), cursor);
+                int charEnd = charStart >= 0 ? charStart + childChunk.content().length() : -1;
+                if (charStart >= 0) cursor = charStart;
+
+                int completesPage = c == childChunks.size() - 1 ? batch.get(i).completesPage() : 0;
+                children.add(new EmbeddingChild(new ChildVector(childChunk.content(), parentId, request.getRoomId(),
+                        target.userId(), batch.get(i).pageNumber(), charStart, charEnd,
+                        request.getOriginalFileName(), parentChunk.headingPath()), completesPage));
             }
+        }
+        return children;
+    }
 
-            if (!childDocsToEmbed.isEmpty()) {
-                vectorStore.add(childDocsToEmbed);
-                chatDocument.setStatus(ChatDocument.ProcessingStatus.COMPLETED);
-                sendSystemMessage(request.getRoomId(), "✅ **" + request.getOriginalFileName() + "** 분석이 완료되었습니다. 이제 질문하실 수 있습니다!");
+    private IngestionTarget startProcessing(DocumentIngestionRequestDto request) {
+        ChatDocument chatDocument = chatDocumentRepository.findById(request.getDocumentId()).orElse(null);
+        if (chatDocument == null) return null;
 
-            } else {
-                log.warn("No chunks created from document. docId: {}", request.getDocumentId());
-                handleEmptyContent(chatDocument, request);
+        // 전체 페이지 수는 추출 단계에서 실제 값을 확인한 뒤 기록
+        chatDocument.setStatus(ChatDocument.ProcessingStatus.PROCESSING);
+        chatDocument.setIndexedPages(0);
+
+        return new IngestionTarget(chatDocument.getId(), chatDocument.getChatRoom().getUser().getId());
+    }
+
+    private void updateStatus(Long documentId, ChatDocument.ProcessingStatus processingStatus) {
+        transactionTemplate.executeWithoutResult(status -> chatDocumentRepository.findById(documentId)
+                .ifPresent(chatDocument -> chatDocument.setStatus(processingStatus)));
+    }
+
+    // 일괄 업로드 문서는 개별 알림 대신 묶음 전체가 끝났을 때 한 번만 알림
+    private void completeGroup(DocumentIngestionRequestDto request, boolean indexed) {
+        if (request.getGroupId() == null) return;
+
+        try {
+            GroupProgress progress = ingestionGroupTracker.complete(request.getGroupId(), indexed);
+            if (progress == null || !progress.finished()) return;
+
+            String message = "📚 일괄 업로드한 **" + progress.total() + "개** 문서의 분석이 완료되었습니다.";
+            if (progress.failed() > 0) {
+                message += "\n(" + progress.failed() + "개 문서는 처리하지 못했습니다.)";
             }
+            sendSystemMessage(progress.roomId(), message);
+        } catch (Exception e) {
+            log.warn("Failed to update ingestion group progress. groupId: {}", request.getGroupId(), e);
+        }
+    }
+
+    private void notifyDocument(DocumentIngestionRequestDto request, String content) {
+        if (request.getGroupId() != null) return;
+        sendSystemMessage(request.getRoomId(), content);
+    }
 
-            log.info("Document processing completed for docId: {}", request.getDocumentId());
+    private Resource openSource(DocumentIngestionRequestDto request) throws IOException {
+        if (request.getBlobKey() != null) return blobStorageService.open(request.getBlobKey());
+        return new FileSystemResource(request.getTempFilePath());
+    }
 
+    private void releaseSource(DocumentIngestionRequestDto request) {
+        if (request.getBlobKey() != null) {
+            blobStorageService.release(request.getBlobKey());
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(Path.of(request.getTempFilePath()));
         } catch (Exception e) {
-            log.error("Document processing failed", e);
-            chatDocument.setStatus(ChatDocument.ProcessingStatus.FAILED);
-            sendSystemMessage(request.getRoomId(), "⚠️ **" + request.getOriginalFileName() + "** 처리 중 오류가 발생했습니다.");
-        } finally {
-            try {
-                Files.deleteIfExists(Path.of(request.getTempFilePath()));
-            } catch (Exception e) {
-                log.warn("Failed to delete temp file: {}", request.getTempFilePath());
-            }
+            log.warn("Failed to delete temp file: {}", request.getTempFilePath());
         }
     }
 
-    private void handleEmptyContent(ChatDocument chatDocument, DocumentIngestionRequestDto request) {
-        chatDocument.setStatus(ChatDocument.ProcessingStatus.COMPLETED);
-        sendSystemMessage(request.getRoomId(),
+    private void handleEmptyContent(DocumentIngestionRequestDto request) {
+        updateStatus(request.getDocumentId(), ChatDocument.ProcessingStatus.COMPLETED);
+        notifyDocument(request,
                 "⚠️ **" + request.getOriginalFileName() + "** 에서 텍스트를 추출하지 못했습니다.\n(암호화된 파일이거나 지원되지 않는 형식일 수 있습니다.)");
     }
 
     private void sendSystemMessage(Long roomId, String content) {
-        ChatRoom chatRoom = chatRoomRepository.findById(roomId).orElseThrow();
-        chatMessageRepository.save(ChatMessage.builder()
-                .chatRoom(chatRoom)
-                .role(ChatMessage.MessageRole.AI)
-                .content(content)
-                .build());
-    }
-}
\ No newline at end of file
+        chatMessageJournal.append(roomId, ChatMessage.MessageRole.AI, content);
+    }
+
+    private record IngestionTarget(Long documentId, Long userId) {
+    }
+
+    // completesPage: 이 Chunk 까지 반영되면 검색 가능해지는 마지막 페이지 (0 = 구간 중간)
+    private record PagedChunk(ParentChunk parent, int pageNumber, int completesPage) {
+    }
+
+    private record EmbeddingChild(ChildVector child, int completesPage) {
+    }
+
+    // 작업 단위 진행 상태 (파이프라인은 한 스레드에서 순차 실행)
+    private static class IndexingProgress {
+        private int totalPages;
+        private int indexedPages;
+        private boolean partialNotified;
+    }
+}
@@ -1,29 +1,52 @@
 package com.docweave.server.doc.service.component.processor;
 
 import com.docweave.server.common.exception.ErrorCode;
+import com.docweave.server.doc.entity.ChatMessage;
 import com.docweave.server.doc.entity.DocContent;
 import com.docweave.server.doc.exception.AiProcessingException;
 import com.docweave.server.doc.exception.GuardrailException;
 import com.docweave.server.doc.repository.DocContentRepository;
+import com.docweave.server.doc.service.component.assembler.PromptContextAssembler;
+import com.docweave.server.doc.service.component.assembler.PromptContextAssembler.PackedContext;
+import com.docweave.server.doc.service.component.assembler.PromptContextAssembler.PackedHistory;
+import com.docweave.server.doc.service.component.assembler.PromptContextAssembler.RetrievedParent;
+import com.docweave.server.doc.service.component.compression.ParentContentCodec;
+import com.docweave.server.doc.service.component.segment.ParentSegmentStore;
+import com.docweave.server.doc.service.component.vector.ChildHit;
+import com.docweave.server.doc.service.component.vector.ChildVectorIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.SystemMessage;
+import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.chat.prompt.PromptTemplate;
-import org.springframework.ai.document.Document;
 import org.springframework.ai.embedding.EmbeddingModel;
-import org.springframework.ai.vectorstore.SearchRequest;
-import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.ai.openai.api.OpenAiApi;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StopWatch;
 
 @Slf4j
@@ -31,63 +54,151 @@ import org.springframework.util.StopWatch;
 @RequiredArgsConstructor
 public class RagProcessor {
 
-    private final VectorStore vectorStore;
+    private final ChildVectorIndex childVectorIndex;
     private final ChatClient chatClient;
     private final EmbeddingModel embeddingModel;
     private final DocContentRepository docContentRepository;
+    private final PromptContextAssembler promptContextAssembler;
+    private final ParentContentCodec parentContentCodec;
+    private final ParentSegmentStore parentSegmentStore;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    @Qualifier("ragTaskExecutor")
+    private final Executor ragTaskExecutor;
 
     @Value("classpath:prompts/system-rag-prompt.st")
-    private Resource ragPromptResource;
+    private Resource ragSystemPromptResource;
+
+    @Value("classpath:prompts/user-rag-prompt.st")
+    private Resource ragUserPromptResource;
+
+    // 템플릿은 기동 시 한 번만 읽어 재사용
+    private String systemPrompt;
+    private PromptTemplate userPromptTemplate;
+
+    @Value("${docweave.rag.retrieval.candidate-top-k:8}")
+    private int candidateTopK;
+
+    @Value("${docweave.rag.retrieval.min-top-k:1}")
+    private int minTopK;
+
+    @Value("${docweave.rag.retrieval.max-top-k:4}")
+    private int maxTopK;
+
+    @Value("${docweave.rag.retrieval.score-margin:0.08}")
+    private double scoreMargin;
 
     private static final double SIMILARITY_THRESHOLD = 0.4;
 
-    public String executeRag(Long userId, Long roomId, String message, String conversationHistory, StopWatch stopWatch) {
-        // Vector Search: 질문과 유사한 'Child' 청크 검색 (사용자 격리 적용)
-        List<Document> similarChildren = vectorStore.similaritySearch(
-                SearchRequest.builder()
-                        .query(message)
-                        .topK(2)
-                        .filterExpression(String.format("roomId == '%s' && userId == '%s'", roomId, userId))
-                        .build()
-        );
+    @PostConstruct
+    void loadPromptTemplates() throws IOException {
+        this.systemPrompt = ragSystemPromptResource.getContentAsString(StandardCharsets.UTF_8);
+        this.userPromptTemplate = new PromptTemplate(ragUserPromptResource);
+    }
+
+    public CompletableFuture<PackedContext> retrieveContextAsync(Long userId, Long roomId, String message) {
+        return CompletableFuture.supplyAsync(() -> retrieveContext(userId, roomId, message), ragTaskExecutor);
+    }
+
+    private PackedContext retrieveContext(Long userId, Long roomId, String message) {
+        // Vector Search: 질문 임베딩 후 유사한 'Child' 청크 후보 검색 (사용자 격리 적용, Parent ID 만 필요)
+        List<ChildHit> candidates = childVectorIndex.search(message, roomId, userId, candidateTopK, List.of());
 
-        // Parent ID 추출
-        Set<Long> parentIds = similarChildren.stream()
-                .map(doc -> {
-                    Object pid = doc.getMetadata().get("parent_id");
-                    return pid != null ? Long.valueOf(pid.toString()) : null;
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-
-        // RDB에서 Parent 조회
-        String contextStr = "";
-        if (!parentIds.isEmpty()) {
-            List<DocContent> parentContents = docContentRepository.findAllByIdIn(new ArrayList<>(parentIds));
-            contextStr = parentContents.stream()
-                    .map(DocContent::getContent)
-                    .collect(Collectors.joining("\n\n"));
+        // 유사도 분포에 따라 topK 조정: 최고 점수 대비 margin 이내의 후보만 유지
+        List<ChildHit> similarChildren = selectByScore(candidates);
+
+        // Parent ID 추출 (유사도 순서 유지)
+        Map<Long, Double> parentScores = new LinkedHashMap<>();
+        for (ChildHit hit : similarChildren) {
+            parentScores.putIfAbsent(hit.parentId(), hit.score());
         }
 
-        final String finalContext = contextStr;
+        // Parent 조회: 로컬 Segment 에 있으면 DB 를 거치지 않고, 없는 것만 RDB 에서 조회
+        if (parentScores.isEmpty()) return promptContextAssembler.packContext(List.of());
 
-        // 프롬포트 생성
-        PromptTemplate template = new PromptTemplate(ragPromptResource);
-        Prompt prompt = template.create(Map.of("history", conversationHistory, "context", finalContext, "message", message));
-        stopWatch.stop();
+        Map<Long, Supplier<String>> loaders = new HashMap<>(parentSegmentStore.find(roomId, parentScores.keySet()));
+        List<Long> missing = parentScores.keySet().stream().filter(id -> !loaders.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            for (DocContent parent : findParents(missing)) {
+                Long documentId = parent.getChatDocument() != null ? parent.getChatDocument().getId() : null;
+                loaders.put(parent.getId(), () -> parentContentCodec.decode(
+                        documentId, parent.getContent(), parent.getCompressedContent(), parent.getContentSize()));
+                parentSegmentStore.request(roomId, documentId);
+            }
+        }
+
+        List<RetrievedParent> parents = parentScores.entrySet().stream()
+                .filter(entry -> loaders.containsKey(entry.getKey()))
+                .map(entry -> new RetrievedParent(entry.getKey(), loaders.get(entry.getKey()), entry.getValue()))
+                .toList();
+
+        return promptContextAssembler.packContext(parents);
+    }
+
+    // 조회는 읽기 전용 트랜잭션(Replica 가능), 방금 분석되어 Replica 에 아직 없는 Parent 만 Primary 에서 다시 조회
+    private List<DocContent> findParents(List<Long> ids) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+        List<DocContent> parents = new ArrayList<>(readOnly.execute(status -> loadParents(ids)));
+        if (parents.size() >= ids.size()) return parents;
+
+        Set<Long> found = parents.stream().map(DocContent::getId).collect(Collectors.toSet());
+        List<Long> lagging = ids.stream().filter(id -> !found.contains(id)).toList();
+        List<DocContent> fromPrimary = transactionTemplate.execute(status -> loadParents(lagging));
+        if (fromPrimary != null) parents.addAll(fromPrimary);
+        return parents;
+    }
+
+    // 압축 사전은 Parent 와 같은 트랜잭션에서 읽음 (Replica 에서 읽은 사전이 지연으로 빠지지 않도록)
+    private List<DocContent> loadParents(List<Long> ids) {
+        List<DocContent> parents = docContentRepository.findAllByIdIn(ids);
+        parentContentCodec.loadDictionaries(parents.stream()
+                .filter(parent -> parent.getCompressedContent() != null && parent.getChatDocument() != null)
+                .map(parent -> parent.getChatDocument().getId())
+                .collect(Collectors.toSet()));
+        return parents;
+    }
+
+    private List<ChildHit> selectByScore(List<ChildHit> candidates) {
+        if (candidates.isEmpty()) return candidates;
+
+        List<ChildHit> sorted = candidates.stream()
+                .sorted(Comparator.comparingDouble(ChildHit::score).reversed())
+                .toList();
+
+        double cutoff = sorted.get(0).score() - scoreMargin;
+        List<ChildHit> selected = new ArrayList<>();
+        for (ChildHit hit : sorted) {
+            if (selected.size() >= maxTopK) break;
+            if (selected.size() >= minTopK && hit.score() < cutoff) break;
+            selected.add(hit);
+        }
+        return selected;
+    }
+
+    public String generateAnswer(Long roomId, String message, List<ChatMessage> chatHistory, PackedContext context, StopWatch stopWatch) {
+        PackedHistory history = promptContextAssembler.packHistory(chatHistory);
+        String finalContext = context.text();
+
+        // 프롬포트 생성: 고정 System 메시지 + 방 단위 가변 영역(문서 컨텍스트 → 대화 내역 → 질문)
+        // 앞부분이 요청마다 동일하게 유지되어 Provider 의 Prefix Cache 적중률이 높아짐
+        String userPrompt = userPromptTemplate.render(Map.of("context", finalContext, "history", history.text(), "message", message));
+        Prompt prompt = new Prompt(List.of(new SystemMessage(systemPrompt), new UserMessage(userPrompt)));
+        recordPromptTokens(context, history, prompt);
 
         // 병렬 처리 시작
         log.info("🚀 [Mode: Parallel] Executing Parallel Processing...");
-        stopWatch.start("2. Parallel Processing (LLM + Context Embed)");
+        stopWatch.start("3. Parallel Processing (LLM + Context Embed)");
 
         // AI 응답 생성 및 컨텍스트 임베딩 병렬 처리
         log.info("Generating answer for room: {}", roomId);
-        CompletableFuture<String> answerFuture = CompletableFuture.supplyAsync(() ->
-                chatClient.prompt(prompt).call().content()
+        CompletableFuture<ChatResponse> answerFuture = CompletableFuture.supplyAsync(() ->
+                chatClient.prompt(prompt).call().chatResponse(), ragTaskExecutor
         );
 
         CompletableFuture<float[]> contextEmbeddingFuture = CompletableFuture.supplyAsync(() ->
-                embeddingModel.embed(finalContext)
+                embeddingModel.embed(finalContext), ragTaskExecutor
         );
 
         // 두 작업이 모두 완료될 때까지 대기
@@ -95,7 +206,12 @@ public class RagProcessor {
         stopWatch.stop();
 
         try {
-            String rawAnswer = answerFuture.get();
+            ChatResponse chatResponse = answerFuture.get();
+            recordUsage(chatResponse);
+
+            String rawAnswer = chatResponse != null && chatResponse.getResult() != null
+                    ? chatResponse.getResult().getOutput().getText()
+                    : null;
             float[] contextVector = contextEmbeddingFuture.get();
 
             if (rawAnswer == null || rawAnswer.isBlank()) {
@@ -104,7 +220,7 @@ public class RagProcessor {
 
             // 가드레일 검증 (병렬 처리된 Vector 사용)
             log.info("Validating answer quality for room: {}", roomId);
-            stopWatch.start("3. Validation (Optimized)");
+            stopWatch.start("4. Validation (Optimized)");
             boolean isValid = validateResponse(contextVector, rawAnswer);
             stopWatch.stop();
 
@@ -123,6 +239,56 @@ public class RagProcessor {
         }
     }
 
+    private void recordPromptTokens(PackedContext context, PackedHistory history, Prompt prompt) {
+        int totalTokens = promptContextAssembler.countTokens(prompt.getContents());
+        log.info("Prompt tokens - context: {} ({} parents), history: {}, total: {}",
+                context.tokens(), context.parentCount(), history.tokens(), totalTokens);
+
+        promptTokenSummary("context").record(context.tokens());
+        promptTokenSummary("history").record(history.tokens());
+        promptTokenSummary("total").record(totalTokens);
+    }
+
+    private DistributionSummary promptTokenSummary(String part) {
+        return DistributionSummary.builder("docweave.rag.prompt.tokens")
+                .description("Prompt token count per RAG request")
+                .baseUnit("tokens")
+                .tag("part", part)
+                .register(meterRegistry);
+    }
+
+    private void recordUsage(ChatResponse chatResponse) {
+        if (chatResponse == null || chatResponse.getMetadata() == null) return;
+
+        Usage usage = chatResponse.getMetadata().getUsage();
+        if (usage == null) return;
+
+        int promptTokens = usage.getPromptTokens() != null ? usage.getPromptTokens() : 0;
+        int completionTokens = usage.getCompletionTokens() != null ? usage.getCompletionTokens() : 0;
+        int cachedTokens = 0;
+
+        // OpenAI 호환 응답의 prompt_tokens_details.cached_tokens
+        if (usage.getNativeUsage() instanceof OpenAiApi.Usage openAiUsage
+                && openAiUsage.promptTokensDetails() != null
+                && openAiUsage.promptTokensDetails().cachedTokens() != null) {
+            cachedTokens = openAiUsage.promptTokensDetails().cachedTokens();
+        }
+
+        log.info("LLM usage - prompt: {}, cached: {}, completion: {}", promptTokens, cachedTokens, completionTokens);
+
+        llmTokenCounter("prompt").increment(promptTokens);
+        llmTokenCounter("cached").increment(cachedTokens);
+        llmTokenCounter("completion").increment(completionTokens);
+    }
+
+    private Counter llmTokenCounter(String type) {
+        return Counter.builder("docweave.llm.tokens")
+                .description("Tokens reported by the chat model usage response")
+                .baseUnit("tokens")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
     private boolean validateResponse(float[] contextVector, String answer) {
         // 규칙 기반 필터링
         if (answer.contains("제공된 문서에서 해당 내용을 찾을 수 없습니다")) return true;
@@ -0,0 +1,486 @@
+package com.docweave.server.doc.service.component.segment;
+
+import com.docweave.server.common.constant.RedisConstant;
+import com.docweave.server.doc.entity.ChatDocument;
+import com.docweave.server.doc.repository.ChatDocumentRepository;
+import com.docweave.server.doc.service.component.compression.ParentContentCodec;
+import jakarta.annotation.PostConstruct;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 분석이 끝난 문서의 Parent 본문을 노드 로컬 Segment 파일로 두고 mmap 으로 조회 (없으면 DB 조회 후 백그라운드로 생성)
+// 파일 구성: [본문 UTF-8 ...][색인: parentId(8) offset(8) length(4) ...][footer: count(4) indexStart(8) magic(4)]
+// - 열어 둔 방은 LRU 로 상한을 두고, 축출되거나 오래 쓰이지 않은 방은 참조를 놓아 GC 가 매핑을 해제하도록 함
+// - 디스크 사용량이 상한을 넘으면 가장 오래 쓰이지 않은 방의 Segment 부터 삭제 (다음 miss 때 다시 생성)
+@Slf4j
+@Component
+public class ParentSegmentStore implements MessageListener {
+
+    private static final int MAGIC = 0x44575347;
+    private static final int ENTRY_BYTES = 20;
+    private static final int FOOTER_BYTES = 16;
+    private static final String SUFFIX = ".seg";
+    private static final String SELECT_PARENTS =
+            "SELECT id, content, compressed_content, content_size FROM doc_content WHERE document_id = ? ORDER BY id";
+    private static final String SELECT_DICTIONARY = "SELECT dictionary FROM doc_content_dictionary WHERE document_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChatDocumentRepository chatDocumentRepository;
+    private final ParentContentCodec parentContentCodec;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Executor segmentTaskExecutor;
+    private final boolean enabled;
+    private final Path root;
+    private final long roomIdleMillis;
+    private final long maxDiskBytes;
+    private final long dropMarkerTtlMillis;
+
+    // roomId -> Room, 방은 첫 조회 시 디스크에서 읽어 들임 (접근 순서 LRU, rooms 로 동기화)
+    private final Map<Long, Room> rooms;
+    private final Set<Long> building = ConcurrentHashMap.newKeySet();
+    // 삭제된 방 -> 삭제 시각, 진행 중이던 생성 작업이 끝난 뒤까지만 유지
+    private final Map<Long, Long> droppedRooms = new ConcurrentHashMap<>();
+
+    public ParentSegmentStore(
+            JdbcTemplate jdbcTemplate,
+            ChatDocumentRepository chatDocumentRepository,
+            ParentContentCodec parentContentCodec,
+            StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Qualifier("segmentTaskExecutor") Executor segmentTaskExecutor,
+            @Value("${docweave.storage.parent-segment.enabled:false}") boolean enabled,
+            @Value("${docweave.storage.parent-segment.root:${java.io.tmpdir}/docweave-segments}") String root,
+            @Value("${docweave.storage.parent-segment.max-open-rooms:256}") int maxOpenRooms,
+            @Value("${docweave.storage.parent-segment.room-idle-ms:600000}") long roomIdleMillis,
+            @Value("${docweave.storage.parent-segment.max-disk-bytes:10737418240}") long maxDiskBytes,
+            @Value("${docweave.storage.parent-segment.drop-marker-ttl-ms:3600000}") long dropMarkerTtlMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chatDocumentRepository = chatDocumentRepository;
+        this.parentContentCodec = parentContentCodec;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.segmentTaskExecutor = segmentTaskExecutor;
+        this.enabled = enabled;
+        this.root = Path.of(root);
+        this.roomIdleMillis = roomIdleMillis;
+        this.maxDiskBytes = maxDiskBytes;
+        this.dropMarkerTtlMillis = dropMarkerTtlMillis;
+        this.rooms = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Room> eldest) {
+                if (size() <= maxOpenRooms) return false;
+                eldest.getValue().close();
+                return true;
+            }
+        };
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        if (enabled && listenerContainer != null) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(RedisConstant.PARENT_SEGMENT_DROP_CHANNEL));
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // Segment 에 있는 Parent 만 반환, 본문은 호출 시점에 mmap 영역에서 바로 디코딩
+    public Map<Long, Supplier<String>> find(Long roomId, Collection<Long> parentIds) {
+        if (!enabled || isDropped(roomId)) return Map.of();
+
+        Room room = room(roomId);
+        if (room.segments.isEmpty()) return Map.of();
+
+        Map<Long, Supplier<String>> found = new HashMap<>();
+        for (Long parentId : parentIds) {
+            for (Segment segment : room.segments.values()) {
+                Supplier<String> reader = segment.reader(parentId);
+                if (reader != null) {
+                    found.put(parentId, reader);
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+
+    // DB 에서 읽은 Parent 의 문서가 아직 Segment 에 없으면 생성 요청 (분석 완료 문서만 생성됨)
+    public void request(Long roomId, Long documentId) {
+        if (!enabled || documentId == null || isDropped(roomId)) return;
+
+        Room room;
+        synchronized (rooms) {
+            room = rooms.get(roomId);
+        }
+        if (room != null && room.segments.containsKey(documentId)) return;
+        if (!building.add(documentId)) return;
+
+        try {
+            segmentTaskExecutor.execute(() -> {
+                try {
+                    build(roomId, documentId);
+                } catch (Exception e) {
+                    log.warn("Failed to build parent segment. docId: {}", documentId, e);
+                } finally {
+                    building.remove(documentId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 대기열이 가득 차면 이번에는 건너뛰고 다음 조회 miss 때 다시 요청
+            building.remove(documentId);
+        }
+    }
+
+    // 방 삭제 시 모든 노드의 Segment 제거
+    public void dropRoom(Long roomId) {
+        if (!enabled) return;
+
+        dropLocally(roomId);
+        stringRedisTemplate.convertAndSend(RedisConstant.PARENT_SEGMENT_DROP_CHANNEL, String.valueOf(roomId));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            dropLocally(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("Malformed segment drop message: {}", body);
+        }
+    }
+
+    // 오래 쓰이지 않은 방을 닫고 만료된 삭제 표시를 정리
+    @Scheduled(fixedDelayString = "${docweave.storage.parent-segment.sweep-interval-ms:60000}")
+    public void sweep() {
+        if (!enabled) return;
+
+        long now = System.currentTimeMillis();
+        synchronized (rooms) {
+            rooms.values().removeIf(room -> {
+                if (now - room.lastAccess < roomIdleMillis) return false;
+                room.close();
+                return true;
+            });
+        }
+        droppedRooms.values().removeIf(droppedAt -> now - droppedAt >= dropMarkerTtlMillis);
+    }
+
+    private boolean isDropped(Long roomId) {
+        Long droppedAt = droppedRooms.get(roomId);
+        if (droppedAt == null) return false;
+        if (System.currentTimeMillis() - droppedAt < dropMarkerTtlMillis) return true;
+        droppedRooms.remove(roomId, droppedAt);
+        return false;
+    }
+
+    private void dropLocally(Long roomId) {
+        droppedRooms.put(roomId, System.currentTimeMillis());
+        deleteRoom(roomId);
+    }
+
+    // 방을 닫고 Segment 파일 삭제 (열린 매핑은 삭제 후에도 유효)
+    private void deleteRoom(Long roomId) {
+        Room room;
+        synchronized (rooms) {
+            room = rooms.remove(roomId);
+        }
+        if (room != null) room.close();
+
+        Path roomDir = root.resolve(String.valueOf(roomId));
+        if (!Files.exists(roomDir)) return;
+        try (Stream<Path> paths = Files.walk(roomDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Failed to delete parent segments. roomId: {}", roomId, e);
+        }
+    }
+
+    private Room room(Long roomId) {
+        synchronized (rooms) {
+            Room room = rooms.get(roomId);
+            if (room != null) {
+                room.lastAccess = System.currentTimeMillis();
+                return room;
+            }
+        }
+
+        // 파일 매핑은 잠금 밖에서 하고, 그 사이 다른 요청이 먼저 올렸으면 그쪽을 사용
+        Room loaded = loadRoom(roomId);
+        synchronized (rooms) {
+            Room existing = rooms.get(roomId);
+            if (existing != null || isDropped(roomId)) {
+                loaded.close();
+                return existing != null ? existing : loaded;
+            }
+            rooms.put(roomId, loaded);
+            return loaded;
+        }
+    }
+
+    private Room loadRoom(Long roomId) {
+        Room room = new Room();
+        Path roomDir = root.resolve(String.valueOf(roomId));
+        if (!Files.isDirectory(roomDir)) return room;
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(roomDir, "*" + SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    room.add(Long.parseLong(name.substring(0, name.length() - SUFFIX.length())), Segment.open(file));
+                } catch (IOException | RuntimeException e) {
+                    log.warn("Skipping unreadable parent segment: {}", file, e);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to load parent segments. roomId: {}", roomId, e);
+        }
+        return room;
+    }
+
+    // 디스크 상한을 넘으면 마지막 사용 시각이 오래된 방부터 삭제 (방금 생성한 방은 남김)
+    private void trimDisk(Long keepRoomId) throws IOException {
+        Map<Long, Long> roomBytes = new HashMap<>();
+        long total = 0;
+        try (DirectoryStream<Path> roomDirs = Files.newDirectoryStream(root, Files::isDirectory)) {
+            for (Path roomDir : roomDirs) {
+                long bytes = directorySize(roomDir);
+                total += bytes;
+                try {
+                    roomBytes.put(Long.parseLong(roomDir.getFileName().toString()), bytes);
+                } catch (NumberFormatException ignored) {
+                    // Segment 방 디렉토리가 아니면 건드리지 않음
+                }
+            }
+        }
+        if (total <= maxDiskBytes) return;
+
+        Map<Long, Long> lastUsed = new HashMap<>();
+        for (Long roomId : roomBytes.keySet()) lastUsed.put(roomId, lastUsed(roomId));
+        List<Long> candidates = new ArrayList<>(roomBytes.keySet());
+        candidates.remove(keepRoomId);
+        candidates.sort(Comparator.comparing(lastUsed::get));
+
+        for (Long roomId : candidates) {
+            if (total <= maxDiskBytes) break;
+            deleteRoom(roomId);
+            total -= roomBytes.get(roomId);
+            log.debug("Evicted parent segments over disk limit. roomId: {}", roomId);
+        }
+    }
+
+    // 열려 있는 방은 마지막 조회 시각, 아니면 디렉토리 수정 시각
+    private long lastUsed(Long roomId) {
+        synchronized (rooms) {
+            Room room = rooms.get(roomId);
+            if (room != null) return room.lastAccess;
+        }
+        try {
+            return Files.getLastModifiedTime(root.resolve(String.valueOf(roomId))).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private long directorySize(Path dir) throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            return paths.filter(Files::isRegularFile).mapToLong(path -> path.toFile().length()).sum();
+        }
+    }
+
+    private void build(Long roomId, Long documentId) throws IOException {
+        // 분석 중인 문서는 Parent 가 계속 추가되므로 완료 후에만 고정된 Segment 로 생성
+        boolean completed = chatDocumentRepository.findById(documentId)
+                .map(document -> document.getStatus() == ChatDocument.ProcessingStatus.COMPLETED)
+                .orElse(false);
+        if (!completed) return;
+
+        Path roomDir = Files.createDirectories(root.resolve(String.valueOf(roomId)));
+        Path target = roomDir.resolve(documentId + SUFFIX);
+        Path temp = roomDir.resolve(documentId + SUFFIX + ".tmp");
+
+        // 사전도 Parent 와 같은 DB(Primary)에서 읽음
+        jdbcTemplate.query(SELECT_DICTIONARY, rs -> {
+            parentContentCodec.cacheDictionary(documentId, rs.getBytes("dictionary"));
+        }, documentId);
+
+        IndexBuilder index = new IndexBuilder();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            jdbcTemplate.query(SELECT_PARENTS, rs -> {
+                String content = parentContentCodec.decode(documentId, rs.getString("content"),
+                        rs.getBytes("compressed_content"), (Integer) rs.getObject("content_size"));
+                byte[] raw = content == null ? new byte[0] : content.getBytes(StandardCharsets.UTF_8);
+                try {
+                    out.write(raw);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                index.add(rs.getLong("id"), raw.length);
+            }, documentId);
+
+            long indexStart = index.dataSize;
+            index.writeTo(out);
+            out.writeInt(index.count);
+            out.writeLong(indexStart);
+            out.writeInt(MAGIC);
+        } catch (UncheckedIOException e) {
+            Files.deleteIfExists(temp);
+            throw e.getCause();
+        }
+
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        // 생성 도중 방이 삭제되었으면 남기지 않음
+        if (isDropped(roomId)) {
+            Files.deleteIfExists(target);
+            return;
+        }
+        room(roomId).add(documentId, Segment.open(target));
+        trimDisk(roomId);
+        log.debug("Built parent segment. docId: {}, parents: {}, bytes: {}", documentId, index.count, index.dataSize);
+    }
+
+    private static final class IndexBuilder {
+
+        private long[] ids = new long[256];
+        private int[] lengths = new int[256];
+        private int count;
+        private long dataSize;
+
+        private void add(long id, int length) {
+            if (count == ids.length) {
+                ids = Arrays.copyOf(ids, count * 2);
+                lengths = Arrays.copyOf(lengths, count * 2);
+            }
+            ids[count] = id;
+            lengths[count] = length;
+            count++;
+            dataSize += length;
+        }
+
+        // ORDER BY id 로 읽었으므로 색인은 parentId 오름차순
+        private void writeTo(DataOutputStream out) throws IOException {
+            long offset = 0;
+            for (int i = 0; i < count; i++) {
+                out.writeLong(ids[i]);
+                out.writeLong(offset);
+                out.writeInt(lengths[i]);
+                offset += lengths[i];
+            }
+        }
+    }
+
+    private static final class Room {
+
+        private final Map<Long, Segment> segments = new ConcurrentHashMap<>();
+        private volatile long lastAccess = System.currentTimeMillis();
+        private boolean closed;
+
+        // 이미 축출된 방에 생성 결과가 들어오면 보관하지 않음
+        private synchronized void add(Long documentId, Segment segment) {
+            if (!closed) segments.put(documentId, segment);
+        }
+
+        // 참조만 놓고 매핑 해제는 GC 에 맡김 (이미 받은 Supplier 는 기존 매핑으로 끝까지 읽음)
+        private synchronized void close() {
+            closed = true;
+            segments.clear();
+        }
+    }
+
+    private static final class Segment {
+
+        private final MappedByteBuffer buffer;
+        private final int count;
+        private final int indexStart;
+
+        private Segment(MappedByteBuffer buffer, int count, int indexStart) {
+            this.buffer = buffer;
+            this.count = count;
+            this.indexStart = indexStart;
+        }
+
+        private static Segment open(Path file) throws IOException {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                long size = channel.size();
+                if (size < FOOTER_BYTES || size > Integer.MAX_VALUE) {
+                    throw new IOException("Invalid segment size: " + size);
+                }
+
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                int footer = (int) size - FOOTER_BYTES;
+                if (buffer.getInt(footer + 12) != MAGIC) throw new IOException("Invalid segment: " + file);
+
+                return new Segment(buffer, buffer.getInt(footer), (int) buffer.getLong(footer + 4));
+            }
+        }
+
+        // 색인은 mmap 영역에서 바로 이진 탐색
+        private Supplier<String> reader(long parentId) {
+            int low = 0;
+            int high = count - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int entry = indexStart + mid * ENTRY_BYTES;
+                long id = buffer.getLong(entry);
+                if (id < parentId) {
+                    low = mid + 1;
+                } else if (id > parentId) {
+                    high = mid - 1;
+                } else {
+                    int offset = (int) buffer.getLong(entry + 8);
+                    int length = buffer.getInt(entry + 16);
+                    return () -> {
+                        ByteBuffer slice = buffer.slice(offset, length);
+                        return StandardCharsets.UTF_8.decode(slice).toString();
+                    };
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.docweave.server.doc.service.component.vector;
+
+import java.util.Map;
+
+public record ChildHit(Long parentId, double score, Map<String, Object> payload) {
+}
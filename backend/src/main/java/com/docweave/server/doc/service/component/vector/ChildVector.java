@@ -0,0 +1,6 @@
+package com.docweave.server.doc.service.component.vector;
+
+// charStart / charEnd: Parent 본문 내 위치 (Parent 본문의 일부가 아니면 -1)
+public record ChildVector(String content, Long parentId, Long roomId, Long userId, int pageNumber,
+                          int charStart, int charEnd, String sourceFile, String headingPath) {
+}
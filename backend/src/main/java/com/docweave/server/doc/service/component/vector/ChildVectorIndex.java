@@ -0,0 +1,17 @@
+package com.docweave.server.doc.service.component.vector;
+
+import java.util.List;
+
+// Child Chunk 임베딩 저장 / 검색
+// 저장 방식: docweave.vector.payload-mode (full: 본문 + 메타데이터 전체, compact: ID / 오프셋만)
+public interface ChildVectorIndex {
+
+    String PAYLOAD_MODE_PROPERTY = "docweave.vector.payload-mode";
+
+    String PARENT_ID = "parent_id";
+
+    void add(List<ChildVector> children);
+
+    // payloadFields: 응답에 포함할 Payload 필드 (비어 있으면 parent_id 만)
+    List<ChildHit> search(String query, Long roomId, Long userId, int topK, List<String> payloadFields);
+}
@@ -0,0 +1,168 @@
+package com.docweave.server.doc.service.component.vector;
+
+import static io.qdrant.client.ConditionFactory.filter;
+import static io.qdrant.client.ConditionFactory.match;
+import static io.qdrant.client.ConditionFactory.matchKeyword;
+import static io.qdrant.client.PointIdFactory.id;
+import static io.qdrant.client.ValueFactory.value;
+import static io.qdrant.client.VectorsFactory.vectors;
+import static io.qdrant.client.WithPayloadSelectorFactory.include;
+
+import io.qdrant.client.QdrantClient;
+import io.qdrant.client.grpc.Collections.PayloadSchemaType;
+import io.qdrant.client.grpc.JsonWithInt;
+import io.qdrant.client.grpc.Points.Filter;
+import io.qdrant.client.grpc.Points.PointStruct;
+import io.qdrant.client.grpc.Points.ScoredPoint;
+import io.qdrant.client.grpc.Points.SearchPoints;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// Child Point 에 본문 없이 정수 ID 와 Parent 본문 내 오프셋만 저장 (본문은 DocContent 에만 존재)
+// 이전 방식(full)으로 저장된 Point 도 함께 검색되도록 문자열 roomId / userId 조건을 OR 로 포함
+@Slf4j
+@Component
+@ConditionalOnProperty(name = ChildVectorIndex.PAYLOAD_MODE_PROPERTY, havingValue = "compact")
+public class CompactQdrantChildVectorIndex implements ChildVectorIndex {
+
+    private static final String ROOM_ID = "room_id";
+    private static final String USER_ID = "user_id";
+    private static final String PAGE = "page";
+    private static final String CHAR_START = "char_start";
+    private static final String CHAR_END = "char_end";
+
+    private final QdrantClient qdrantClient;
+    private final EmbeddingModel embeddingModel;
+    private final String collectionName;
+    // Collection 은 VectorStore 초기화 시점에 만들어지므로, 첫 Upsert 가 성공한 뒤(Collection 존재 보장) Index 생성
+    private volatile boolean payloadIndexed;
+
+    public CompactQdrantChildVectorIndex(
+            QdrantClient qdrantClient,
+            EmbeddingModel embeddingModel,
+            @Value("${spring.ai.vectorstore.qdrant.collection-name}") String collectionName) {
+        this.qdrantClient = qdrantClient;
+        this.embeddingModel = embeddingModel;
+        this.collectionName = collectionName;
+    }
+
+    // 필터 대상 필드는 Payload Index 를 만들어 전체 Point 스캔을 피함 (이미 있으면 무시됨, 실패하면 다음 Upsert 때 재시도)
+    private void ensurePayloadIndexes() {
+        if (payloadIndexed) return;
+
+        boolean created = true;
+        for (String field : List.of(ROOM_ID, USER_ID, PARENT_ID)) {
+            try {
+                qdrantClient.createPayloadIndexAsync(collectionName, field, PayloadSchemaType.Integer,
+                        null, true, null, null).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                created = false;
+                log.warn("Failed to create payload index. field: {}", field, e);
+            }
+        }
+        payloadIndexed = created;
+    }
+
+    @Override
+    public void add(List<ChildVector> children) {
+        if (children.isEmpty()) return;
+
+        List<float[]> embeddings = embeddingModel.embed(children.stream().map(ChildVector::content).toList());
+
+        List<PointStruct> points = new ArrayList<>(children.size());
+        for (int i = 0; i < children.size(); i++) {
+            ChildVector child = children.get(i);
+            points.add(PointStruct.newBuilder()
+                    .setId(id(UUID.randomUUID()))
+                    .setVectors(vectors(embeddings.get(i)))
+                    .putAllPayload(Map.of(
+                            PARENT_ID, value(child.parentId()),
+                            ROOM_ID, value(child.roomId()),
+                            USER_ID, value(child.userId()),
+                            PAGE, value(child.pageNumber()),
+                            CHAR_START, value(child.charStart()),
+                            CHAR_END, value(child.charEnd())
+                    ))
+                    .build());
+        }
+
+        try {
+            qdrantClient.upsertAsync(collectionName, points).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while upserting child vectors", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to upsert child vectors", e);
+        }
+        ensurePayloadIndexes();
+    }
+
+    @Override
+    public List<ChildHit> search(String query, Long roomId, Long userId, int topK, List<String> payloadFields) {
+        float[] embedding = embeddingModel.embed(query);
+        List<Float> vector = new ArrayList<>(embedding.length);
+        for (float v : embedding) vector.add(v);
+
+        List<String> fields = new ArrayList<>(payloadFields);
+        if (!fields.contains(PARENT_ID)) fields.add(PARENT_ID);
+
+        SearchPoints request = SearchPoints.newBuilder()
+                .setCollectionName(collectionName)
+                .addAllVector(vector)
+                .setLimit(topK)
+                .setFilter(Filter.newBuilder()
+                        .addMust(filter(Filter.newBuilder()
+                                .addShould(match(ROOM_ID, roomId))
+                                .addShould(matchKeyword("roomId", roomId.toString()))
+                                .build()))
+                        .addMust(filter(Filter.newBuilder()
+                                .addShould(match(USER_ID, userId))
+                                .addShould(matchKeyword("userId", userId.toString()))
+                                .build()))
+                        .build())
+                .setWithPayload(include(fields))
+                .build();
+
+        List<ScoredPoint> points;
+        try {
+            points = qdrantClient.searchAsync(request).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while searching child vectors", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to search child vectors", e);
+        }
+
+        List<ChildHit> hits = new ArrayList<>(points.size());
+        for (ScoredPoint point : points) {
+            Map<String, Object> payload = new HashMap<>();
+            point.getPayloadMap().forEach((field, payloadValue) -> payload.put(field, toJava(payloadValue)));
+
+            Object parentId = payload.get(PARENT_ID);
+            if (parentId == null) continue;
+            hits.add(new ChildHit(Long.valueOf(parentId.toString()), point.getScore(), payload));
+        }
+        return hits;
+    }
+
+    private Object toJava(JsonWithInt.Value payloadValue) {
+        return switch (payloadValue.getKindCase()) {
+            case INTEGER_VALUE -> payloadValue.getIntegerValue();
+            case DOUBLE_VALUE -> payloadValue.getDoubleValue();
+            case STRING_VALUE -> payloadValue.getStringValue();
+            case BOOL_VALUE -> payloadValue.getBoolValue();
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,64 @@
+package com.docweave.server.doc.service.component.vector;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 기존 방식: Spring AI VectorStore 에 Child 본문과 메타데이터를 모두 저장
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = ChildVectorIndex.PAYLOAD_MODE_PROPERTY, havingValue = "full", matchIfMissing = true)
+public class SpringAiChildVectorIndex implements ChildVectorIndex {
+
+    private final VectorStore vectorStore;
+
+    @Override
+    public void add(List<ChildVector> children) {
+        vectorStore.add(children.stream().map(this::toDocument).toList());
+    }
+
+    @Override
+    public List<ChildHit> search(String query, Long roomId, Long userId, int topK, List<String> payloadFields) {
+        List<Document> documents = vectorStore.similaritySearch(
+                SearchRequest.builder()
+                        .query(query)
+                        .topK(topK)
+                        .filterExpression(String.format("roomId == '%s' && userId == '%s'", roomId, userId))
+                        .build()
+        );
+
+        return documents.stream()
+                .filter(document -> document.getMetadata().get(PARENT_ID) != null)
+                .map(document -> new ChildHit(
+                        Long.valueOf(document.getMetadata().get(PARENT_ID).toString()),
+                        document.getScore() != null ? document.getScore() : 0.0,
+                        select(document.getMetadata(), payloadFields)))
+                .toList();
+    }
+
+    private Document toDocument(ChildVector child) {
+        Map<String, Object> metadata = new HashMap<>(Map.of(
+                PARENT_ID, child.parentId(),
+                "roomId", child.roomId(),
+                "userId", child.userId(),
+                "source_file", child.sourceFile(),
+                "page_number", child.pageNumber()
+        ));
+        if (child.headingPath() != null) metadata.put("heading_path", child.headingPath());
+        return new Document(child.content(), metadata);
+    }
+
+    private Map<String, Object> select(Map<String, Object> metadata, List<String> payloadFields) {
+        Map<String, Object> payload = new HashMap<>();
+        for (String field : payloadFields) {
+            if (metadata.containsKey(field)) payload.put(field, metadata.get(field));
+        }
+        return payload;
+    }
+}
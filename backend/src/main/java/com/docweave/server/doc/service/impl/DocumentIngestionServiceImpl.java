@@ -3,6 +3,7 @@ package com.docweave.server.doc.service.impl;
 import com.docweave.server.doc.dto.request.DocumentIngestionRequestDto;
 import com.docweave.server.doc.service.DocumentIngestionService;
 import com.docweave.server.doc.service.queue.IngestionQueueService;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -20,4 +21,10 @@ public class DocumentIngestionServiceImpl implements DocumentIngestionService {
     public void processDocument(DocumentIngestionRequestDto request) {
         ingestionQueueService.push(request);
     }
+
+    @Override
+    @Transactional
+    public void processDocuments(List<DocumentIngestionRequestDto> requests) {
+        ingestionQueueService.pushAll(requests);
+    }
 }
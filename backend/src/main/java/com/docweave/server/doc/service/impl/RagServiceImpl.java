@@ -5,25 +5,39 @@ import com.docweave.server.doc.dto.ChatMessageDto;
 import com.docweave.server.doc.dto.ChatRoomDto;
 import com.docweave.server.doc.dto.request.ChatRequestDto;
 import com.docweave.server.doc.dto.request.DocumentIngestionRequestDto;
+import com.docweave.server.doc.dto.response.BulkUploadResponseDto;
 import com.docweave.server.doc.dto.response.ChatResponseDto;
+import com.docweave.server.doc.dto.response.IngestionProgressDto;
 import com.docweave.server.doc.entity.ChatDocument;
 import com.docweave.server.doc.entity.ChatMessage;
 import com.docweave.server.doc.entity.ChatMessage.MessageRole;
 import com.docweave.server.doc.entity.ChatRoom;
 import com.docweave.server.doc.exception.AiProcessingException;
+import com.docweave.server.doc.exception.ChatRoomFindingException;
 import com.docweave.server.doc.exception.FileHandlingException;
 import com.docweave.server.doc.exception.GuardrailException;
 import com.docweave.server.doc.service.DocumentIngestionService;
 import com.docweave.server.doc.service.RagService;
 import com.docweave.server.doc.service.component.manager.ChatDomainManager;
 import com.docweave.server.doc.service.component.handler.FileHandler;
+import com.docweave.server.doc.service.component.handler.FileHandler.NamedUpload;
+import com.docweave.server.doc.service.component.handler.FileHandler.StoredUpload;
+import com.docweave.server.doc.service.component.assembler.PromptContextAssembler.PackedContext;
 import com.docweave.server.doc.service.component.processor.RagProcessor;
+import com.docweave.server.doc.service.queue.IngestionAdmissionController;
+import com.docweave.server.doc.service.queue.IngestionGroupTracker;
+import com.docweave.server.doc.service.queue.IngestionGroupTracker.GroupProgress;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StopWatch;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -36,6 +50,12 @@ public class RagServiceImpl implements RagService {
     private final ChatDomainManager chatDomainManager;
     private final FileHandler fileHandler;
     private final RagProcessor ragProcessor;
+    private final IngestionAdmissionController ingestionAdmissionController;
+    private final IngestionGroupTracker ingestionGroupTracker;
+    private final TransactionTemplate transactionTemplate;
+
+    @Qualifier("ragTaskExecutor")
+    private final Executor ragTaskExecutor;
 
     @Override
     @Transactional(readOnly = true)
@@ -49,120 +69,129 @@ public class RagServiceImpl implements RagService {
         return chatDomainManager.getChatMessages(roomId);
     }
 
+    // 업로드 메서드는 본문을 저장소로 흘려보내는 동안 DB Connection 을 잡지 않도록 저장 후에만 트랜잭션을 엶
     @Override
-    @Transactional
     public ChatRoomDto createChatRoom(Long userId, MultipartFile file) {
         fileHandler.validateFile(file);
+        ingestionAdmissionController.admit(file.getSize());
 
-        try {
-            // DB에 채팅방 생성
-            ChatRoom chatRoom = chatDomainManager.createChatRoomEntity(file.getOriginalFilename(), userId);
-
-            // 파일 메타데이터 RDB 저장
-            ChatDocument chatDocument = chatDomainManager.createChatDocument(chatRoom, file.getOriginalFilename());
-
-            // 임시 파일 저장
-            String tempFilePath = fileHandler.saveTempFile(file);
-
-            DocumentIngestionRequestDto request = DocumentIngestionRequestDto.builder()
-                    .roomId(chatRoom.getId())
-                    .documentId(chatDocument.getId())
-                    .tempFilePath(tempFilePath)
-                    .originalFileName(file.getOriginalFilename())
-                    .build();
-
-            // 비동기 문서 처리 시작
-            documentIngestionService.processDocument(request);
+        StoredUpload storedUpload = fileHandler.storeUpload(file);
+        return transactionTemplate.execute(status -> createChatRoom(userId, file.getOriginalFilename(), storedUpload));
+    }
 
-            return ChatRoomDto.builder()
-                    .id(chatRoom.getId())
-                    .title(chatRoom.getTitle())
-                    .createdAt(chatRoom.getCreatedAt())
-                    .build();
+    @Override
+    public ChatRoomDto createChatRoom(Long userId, String fileName, long contentLength, InputStream content) {
+        fileHandler.validateFileName(fileName);
+        fileHandler.validateStreamLength(contentLength);
+        ingestionAdmissionController.admit(fileHandler.expectedStreamBytes(contentLength));
 
-        } catch (Exception e) {
-            log.error("Room Creation Error", e);
-            throw new FileHandlingException(ErrorCode.FILE_UPLOAD_FAILED);
-        }
+        StoredUpload storedUpload = fileHandler.storeStream(content, contentLength, fileName);
+        return transactionTemplate.execute(status -> createChatRoom(userId, fileName, storedUpload));
     }
 
     @Override
-    @Transactional
     public void addDocumentToRoom(Long userId, Long roomId, MultipartFile file) {
         log.info("[addDocumentToRoom] PDF 추가 시작. File Name: {}", file.getOriginalFilename());
         fileHandler.validateFile(file);
+        ingestionAdmissionController.admit(file.getSize());
         ChatRoom chatRoom = chatDomainManager.findChatRoomById(userId, roomId);
 
-        chatDomainManager.updateLastActiveAt(chatRoom);
+        StoredUpload storedUpload = fileHandler.storeUpload(file);
+        transactionTemplate.executeWithoutResult(status ->
+                addDocumentToRoom(userId, chatRoom, file.getOriginalFilename(), storedUpload));
+    }
 
-        try {
-            ChatDocument chatDocument = chatDomainManager.createChatDocument(chatRoom, file.getOriginalFilename());
+    @Override
+    public void addDocumentToRoom(Long userId, Long roomId, String fileName, long contentLength, InputStream content) {
+        log.info("[addDocumentToRoom] PDF 스트리밍 추가 시작. File Name: {}", fileName);
+        fileHandler.validateFileName(fileName);
+        fileHandler.validateStreamLength(contentLength);
+        ingestionAdmissionController.admit(fileHandler.expectedStreamBytes(contentLength));
+        ChatRoom chatRoom = chatDomainManager.findChatRoomById(userId, roomId);
 
-            String tempFilePath = fileHandler.saveTempFile(file);
+        StoredUpload storedUpload = fileHandler.storeStream(content, contentLength, fileName);
+        transactionTemplate.executeWithoutResult(status -> addDocumentToRoom(userId, chatRoom, fileName, storedUpload));
+    }
 
-            DocumentIngestionRequestDto request = DocumentIngestionRequestDto.builder()
-                    .roomId(roomId)
-                    .documentId(chatDocument.getId())
-                    .tempFilePath(tempFilePath)
-                    .originalFileName(file.getOriginalFilename())
-                    .build();
+    @Override
+    public BulkUploadResponseDto addDocumentsToRoom(Long userId, Long roomId, List<MultipartFile> files) {
+        if (files == null || files.isEmpty()) throw new FileHandlingException(ErrorCode.FILE_EMPTY);
+        ingestionAdmissionController.admit(files.stream().mapToLong(MultipartFile::getSize).sum());
+        ChatRoom chatRoom = chatDomainManager.findChatRoomById(userId, roomId);
 
-            documentIngestionService.processDocument(request);
+        List<NamedUpload> uploads = fileHandler.storeBulk(files);
+        return transactionTemplate.execute(status -> addBulkToRoom(userId, chatRoom, uploads));
+    }
 
-            chatDomainManager.saveChatMessage(ChatMessage.builder()
-                    .chatRoom(chatRoom)
-                    .role(MessageRole.AI)
-                    .content("📎 **" + file.getOriginalFilename() + "** 추가 분석을 시작합니다.")
-                    .build());
+    @Override
+    public BulkUploadResponseDto addArchiveToRoom(Long userId, Long roomId, long contentLength, InputStream content) {
+        fileHandler.validateStreamLength(contentLength);
+        ingestionAdmissionController.admit(fileHandler.expectedStreamBytes(contentLength));
+        ChatRoom chatRoom = chatDomainManager.findChatRoomById(userId, roomId);
 
-        } catch (Exception e) {
-            log.error("Add Document Error", e);
-            throw new FileHandlingException(ErrorCode.FILE_UPLOAD_FAILED);
+        List<NamedUpload> uploads = fileHandler.storeArchive(content);
+        return transactionTemplate.execute(status -> addBulkToRoom(userId, chatRoom, uploads));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public IngestionProgressDto getBulkUploadProgress(Long userId, Long roomId, String groupId) {
+        GroupProgress progress = ingestionGroupTracker.get(groupId);
+        if (progress == null || !progress.roomId().equals(roomId) || !progress.userId().equals(userId)) {
+            throw new ChatRoomFindingException(ErrorCode.INGESTION_GROUP_NOT_FOUND);
         }
+
+        return IngestionProgressDto.builder()
+                .groupId(groupId)
+                .total(progress.total())
+                .completed(progress.completed())
+                .failed(progress.failed())
+                .finished(progress.finished())
+                .build();
     }
 
+    // LLM 응답을 기다리는 동안 Connection 을 잡지 않도록 트랜잭션 없이 실행 (소유 확인 / 조회는 각자 읽기 전용 트랜잭션)
     @Override
-    @Transactional
     public ChatResponseDto ask(Long userId, Long roomId, ChatRequestDto requestDto) {
         // 성능 측정을 위한 StopWatch 시작
         StopWatch stopWatch = new StopWatch("RAG Performance Check - Room " + roomId);
-
-        stopWatch.start("1. Basic Setup & Retrieval");
-        ChatRoom chatRoom = chatDomainManager.findChatRoomById(userId, roomId);
-
-        chatDomainManager.updateLastActiveAt(chatRoom);
-
-        // 사용자 질문 DB 저장
-        chatDomainManager.saveChatMessage(ChatMessage.builder()
-                .chatRoom(chatRoom)
-                .role(MessageRole.USER)
-                .content(requestDto.getMessage())
-                .build());
+        String message = requestDto.getMessage();
+
+        // 채팅방 소유 확인을 먼저 (남의 채팅방 요청이 검색 / 조회 작업을 띄우지 않도록)
+        // lastActiveAt 은 메모리에 기록 후 주기적으로 일괄 반영되어 채팅방 행을 잠그지 않음
+        stopWatch.start("1. Room Lookup & Fan-out (Retrieval / History)");
+        chatDomainManager.findChatRoomById(userId, roomId);
+        chatDomainManager.updateLastActiveAt(roomId);
+
+        // 검색(질문 임베딩 → 벡터 검색 → Parent 조회)과 대화 내역 조회는 서로 독립적이므로 동시에 시작
+        CompletableFuture<PackedContext> contextFuture = ragProcessor.retrieveContextAsync(userId, roomId, message);
+        CompletableFuture<List<ChatMessage>> historyFuture = CompletableFuture.supplyAsync(
+                () -> chatDomainManager.getRecentChatHistory(roomId), ragTaskExecutor);
+        CompletableFuture<String> coverageFuture = CompletableFuture.supplyAsync(
+                () -> chatDomainManager.getIndexingCoverage(roomId), ragTaskExecutor);
+        stopWatch.stop();
 
         try {
-            // 대화 내역 조회 (최대 6개)
-            List<ChatMessage> chatHistoryList = chatDomainManager.getRecentChatHistory(roomId);
+            // 크리티컬 패스: 검색 결과와 대화 내역(최대 6개)이 모두 준비될 때까지 대기
+            stopWatch.start("2. Await Retrieval & History");
+            PackedContext context = contextFuture.join();
+            List<ChatMessage> chatHistoryList = historyFuture.join();
+            stopWatch.stop();
 
-            // 대화 내역 포맷팅
-            String conversationHistory = chatHistoryList.stream()
-                    .map(msg -> String.format("%s: %s", msg.getRole(), msg.getContent()))
-                    .collect(Collectors.joining("\n"));
-
-            // RagProcessor 호출 - 임베딩 검색, LLM 응답 생성, 검증 포함
-            String rawAnswer = ragProcessor.executeRag(userId, roomId, requestDto.getMessage(), conversationHistory, stopWatch);
+            // RagProcessor 호출 - 토큰 예산 내 프롬프트 구성, LLM 응답 생성, 검증 포함
+            String rawAnswer = ragProcessor.generateAnswer(roomId, message, chatHistoryList, context, stopWatch);
 
             log.info(stopWatch.prettyPrint());
 
-            // 검증 통과 시 DB 저장
-            chatDomainManager.saveChatMessage(ChatMessage.builder()
-                    .chatRoom(chatRoom)
-                    .role(MessageRole.AI)
-                    .content(rawAnswer)
-                    .build());
+            // 검증을 통과한 경우에만 질문과 답변을 함께 저장 (Guardrail 거절 시 질문만 남지 않도록)
+            // 메모리 저널에 기록 후 주기적으로 일괄 반영되므로 응답 경로에 DB 쓰기 없음, 저널이 방 내 순서를 보장
+            chatDomainManager.appendChatMessage(roomId, MessageRole.USER, message);
+            chatDomainManager.appendChatMessage(roomId, MessageRole.AI, rawAnswer);
 
             return ChatResponseDto.builder()
-                    .question(requestDto.getMessage())
+                    .question(message)
                     .answer(rawAnswer)
+                    .coverage(coverageFuture.join())
                     .build();
 
         } catch (GuardrailException e) {
@@ -178,4 +207,97 @@ public class RagServiceImpl implements RagService {
     public void deleteChatRoom(Long userId, Long roomId) {
         chatDomainManager.deleteChatRoom(userId, roomId);
     }
-}
\ No newline at end of file
+
+    private ChatRoomDto createChatRoom(Long userId, String fileName, StoredUpload storedUpload) {
+        try {
+            // DB에 채팅방 생성
+            ChatRoom chatRoom = chatDomainManager.createChatRoomEntity(fileName, userId);
+
+            // 파일 메타데이터 RDB 저장
+            ChatDocument chatDocument = chatDomainManager.createChatDocument(chatRoom, fileName);
+
+            // 비동기 문서 처리 시작 (파일은 이미 공유 저장소에 있으므로 어느 노드의 Worker 든 처리 가능)
+            documentIngestionService.processDocument(toIngestionRequest(userId, chatRoom.getId(), chatDocument.getId(), fileName, storedUpload));
+
+            return ChatRoomDto.builder()
+                    .id(chatRoom.getId())
+                    .title(chatRoom.getTitle())
+                    .createdAt(chatRoom.getCreatedAt())
+                    .build();
+
+        } catch (Exception e) {
+            log.error("Room Creation Error", e);
+            fileHandler.release(storedUpload);
+            throw new FileHandlingException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+    }
+
+    private void addDocumentToRoom(Long userId, ChatRoom chatRoom, String fileName, StoredUpload storedUpload) {
+        Long roomId = chatRoom.getId();
+        chatDomainManager.updateLastActiveAt(roomId);
+
+        try {
+            ChatDocument chatDocument = chatDomainManager.createChatDocument(chatRoom, fileName);
+
+            documentIngestionService.processDocument(toIngestionRequest(userId, roomId, chatDocument.getId(), fileName, storedUpload));
+
+            chatDomainManager.appendChatMessage(roomId, MessageRole.AI,
+                    "📎 **" + fileName + "** 추가 분석을 시작합니다.");
+
+        } catch (Exception e) {
+            log.error("Add Document Error", e);
+            fileHandler.release(storedUpload);
+            throw new FileHandlingException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+    }
+
+    // 문서 행은 한 번의 INSERT 로 생성하고, 각 문서는 개별 작업으로 등록하여 여러 Worker 가 병렬 처리
+    private BulkUploadResponseDto addBulkToRoom(Long userId, ChatRoom chatRoom, List<NamedUpload> uploads) {
+        if (uploads.isEmpty()) throw new FileHandlingException(ErrorCode.INVALID_FILE_EXTENSION);
+
+        Long roomId = chatRoom.getId();
+        chatDomainManager.updateLastActiveAt(roomId);
+
+        try {
+            List<String> fileNames = uploads.stream().map(NamedUpload::fileName).toList();
+            List<Long> documentIds = chatDomainManager.createChatDocuments(chatRoom, fileNames);
+            String groupId = ingestionGroupTracker.create(roomId, userId, uploads.size());
+
+            List<DocumentIngestionRequestDto> requests = new ArrayList<>(uploads.size());
+            for (int i = 0; i < uploads.size(); i++) {
+                DocumentIngestionRequestDto request = toIngestionRequest(userId, roomId, documentIds.get(i),
+                        fileNames.get(i), uploads.get(i).storedUpload());
+                request.setGroupId(groupId);
+                requests.add(request);
+            }
+            documentIngestionService.processDocuments(requests);
+
+            String message = "📚 **" + uploads.size() + "개** 문서 일괄 분석을 시작합니다.";
+            chatDomainManager.appendChatMessage(roomId, MessageRole.AI, message);
+
+            return BulkUploadResponseDto.builder()
+                    .groupId(groupId)
+                    .fileNames(fileNames)
+                    .message(message)
+                    .build();
+
+        } catch (Exception e) {
+            log.error("Bulk Upload Error", e);
+            uploads.forEach(upload -> fileHandler.release(upload.storedUpload()));
+            throw new FileHandlingException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+    }
+
+    private DocumentIngestionRequestDto toIngestionRequest(Long userId, Long roomId, Long documentId,
+                                                           String fileName, StoredUpload storedUpload) {
+        return DocumentIngestionRequestDto.builder()
+                .roomId(roomId)
+                .documentId(documentId)
+                .blobKey(storedUpload.blobKey())
+                .originalFileName(fileName)
+                .userId(userId)
+                .fileSize(storedUpload.size())
+                .mimeType(storedUpload.mimeType())
+                .build();
+    }
+}
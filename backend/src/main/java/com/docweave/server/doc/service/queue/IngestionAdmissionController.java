@@ -0,0 +1,139 @@
+package com.docweave.server.doc.service.queue;
+
+import com.docweave.server.common.exception.ErrorCode;
+import com.docweave.server.common.storage.BlobStorageService;
+import com.docweave.server.doc.exception.IngestionBackpressureException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 대기열 깊이 / 예상 처리 완료 시간 / 임시 디스크 여유 공간 기준 업로드 Admission Control
+@Slf4j
+@Component
+public class IngestionAdmissionController {
+
+    private final IngestionQueueService ingestionQueueService;
+    private final BlobStorageService blobStorageService;
+    private final MeterRegistry meterRegistry;
+
+    private final long maxDepth;
+    private final long maxDrainMs;
+    private final long minFreeTempBytes;
+    private final long diskRetryAfterSeconds;
+    private final long targetDrainMs;
+    private final double ewmaAlpha;
+
+    // 작업 1건당 평균 처리 시간 (EWMA)
+    private volatile double averageTaskMs;
+
+    public IngestionAdmissionController(
+            IngestionQueueService ingestionQueueService,
+            BlobStorageService blobStorageService,
+            MeterRegistry meterRegistry,
+            @Value("${docweave.ingestion.admission.max-depth:200}") long maxDepth,
+            @Value("${docweave.ingestion.admission.max-drain-ms:1800000}") long maxDrainMs,
+            @Value("${docweave.ingestion.admission.min-free-temp-bytes:1073741824}") long minFreeTempBytes,
+            @Value("${docweave.ingestion.admission.disk-retry-after-seconds:60}") long diskRetryAfterSeconds,
+            @Value("${docweave.ingestion.admission.target-drain-ms:300000}") long targetDrainMs,
+            @Value("${docweave.ingestion.admission.initial-task-ms:30000}") long initialTaskMs,
+            @Value("${docweave.ingestion.admission.ewma-alpha:0.2}") double ewmaAlpha) {
+        this.ingestionQueueService = ingestionQueueService;
+        this.blobStorageService = blobStorageService;
+        this.meterRegistry = meterRegistry;
+        this.maxDepth = maxDepth;
+        this.maxDrainMs = maxDrainMs;
+        this.minFreeTempBytes = minFreeTempBytes;
+        this.diskRetryAfterSeconds = diskRetryAfterSeconds;
+        this.targetDrainMs = targetDrainMs;
+        this.ewmaAlpha = ewmaAlpha;
+        this.averageTaskMs = initialTaskMs;
+    }
+
+    @PostConstruct
+    public void registerMetrics() {
+        Gauge.builder("docweave.ingestion.drain.estimated", this, IngestionAdmissionController::estimatedDrainMs)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("docweave.ingestion.temp.free", this, IngestionAdmissionController::freeTempBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("docweave.ingestion.workers.desired", this, IngestionAdmissionController::desiredWorkers)
+                .register(meterRegistry);
+    }
+
+    // 업로드 수락 여부 판단 (임시 파일 저장 / DB 작업 이전에 호출)
+    public void admit(long incomingBytes) {
+        long freeBytes = freeTempBytes();
+        if (freeBytes >= 0 && freeBytes - incomingBytes < minFreeTempBytes) {
+            log.warn("Upload rejected: temp storage low. free={}B, incoming={}B", freeBytes, incomingBytes);
+            throw new IngestionBackpressureException(ErrorCode.TEMP_STORAGE_EXHAUSTED, diskRetryAfterSeconds);
+        }
+
+        long depth = ingestionQueueService.currentDepth();
+        long drainMs = estimatedDrainMs();
+        if (depth >= maxDepth || drainMs > maxDrainMs) {
+            // 예상 완료 시간이 기준 이하로 내려올 때까지의 대기 시간
+            long excessMs = Math.max(drainMs - maxDrainMs, (long) ((depth - maxDepth + 1) * averageTaskMs / activeWorkers()));
+            long retryAfterSeconds = Math.max(5, (excessMs + 999) / 1000);
+            log.warn("Upload rejected: ingestion backlog. depth={}, estimatedDrain={}ms", depth, drainMs);
+            throw new IngestionBackpressureException(ErrorCode.INGESTION_OVERLOADED, retryAfterSeconds);
+        }
+    }
+
+    public synchronized void recordCompletion(long durationMs) {
+        averageTaskMs = ewmaAlpha * durationMs + (1 - ewmaAlpha) * averageTaskMs;
+    }
+
+    public long estimatedDrainMs() {
+        return (long) (ingestionQueueService.currentDepth() * averageTaskMs / activeWorkers());
+    }
+
+    // 업로드는 Blob 저장소의 임시 위치(staging)에 먼저 기록되므로 그 디스크 기준으로 판단
+    public long freeTempBytes() {
+        return blobStorageService.usableSpace();
+    }
+
+    // 목표 완료 시간 안에 대기열을 비우기 위해 필요한 Worker 수 (Autoscaling 신호)
+    public long desiredWorkers() {
+        long depth = ingestionQueueService.currentDepth();
+        if (depth == 0) return 1;
+        return Math.max(1, (long) Math.ceil(depth * averageTaskMs / targetDrainMs));
+    }
+
+    public IngestionLoad snapshot() {
+        long depth = ingestionQueueService.currentDepth();
+        long drainMs = estimatedDrainMs();
+        long freeBytes = freeTempBytes();
+        boolean admitting = depth < maxDepth && drainMs <= maxDrainMs
+                && (freeBytes < 0 || freeBytes >= minFreeTempBytes);
+
+        return new IngestionLoad(
+                depth,
+                ingestionQueueService.depthSnapshot(),
+                activeWorkers(),
+                desiredWorkers(),
+                (long) averageTaskMs,
+                drainMs,
+                freeBytes,
+                admitting);
+    }
+
+    private int activeWorkers() {
+        return Math.max(1, ingestionQueueService.activeWorkers());
+    }
+
+    public record IngestionLoad(
+            long depth,
+            Map<IngestionSizeClass, Long> depthByClass,
+            int activeWorkers,
+            long desiredWorkers,
+            long averageTaskMs,
+            long estimatedDrainMs,
+            long freeTempBytes,
+            boolean admitting) {
+    }
+}
@@ -0,0 +1,76 @@
+package com.docweave.server.doc.service.queue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+// 일괄 업로드 묶음의 진행 상황 (각 문서는 개별 작업으로 여러 Worker 에서 병렬 처리)
+@Component
+@RequiredArgsConstructor
+public class IngestionGroupTracker {
+
+    private static final String KEY_PREFIX = "doc_ingestion_group:";
+    private static final Duration RETENTION = Duration.ofDays(7);
+
+    // 완료 집계와 조회를 원자적으로 수행하여 마지막 문서를 처리한 Worker 만 완료 알림을 보내도록 함
+    private static final RedisScript<List> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return {} end
+            redis.call('HINCRBY', KEYS[1], ARGV[1], 1)
+            return redis.call('HMGET', KEYS[1], 'roomId', 'userId', 'total', 'completed', 'failed')
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public String create(Long roomId, Long userId, int total) {
+        String groupId = UUID.randomUUID().toString();
+        String key = KEY_PREFIX + groupId;
+
+        redisTemplate.opsForHash().putAll(key, Map.of(
+                "roomId", String.valueOf(roomId),
+                "userId", String.valueOf(userId),
+                "total", String.valueOf(total),
+                "completed", "0",
+                "failed", "0"));
+        redisTemplate.expire(key, RETENTION);
+        return groupId;
+    }
+
+    public GroupProgress complete(String groupId, boolean success) {
+        List<?> values = redisTemplate.execute(COMPLETE_SCRIPT, List.of(KEY_PREFIX + groupId),
+                success ? "completed" : "failed");
+        if (values == null || values.isEmpty()) return null;
+
+        return toProgress(groupId, values);
+    }
+
+    public GroupProgress get(String groupId) {
+        List<Object> values = redisTemplate.opsForHash().multiGet(KEY_PREFIX + groupId,
+                List.of("roomId", "userId", "total", "completed", "failed"));
+        if (values.get(0) == null) return null;
+
+        return toProgress(groupId, values);
+    }
+
+    private GroupProgress toProgress(String groupId, List<?> values) {
+        return new GroupProgress(
+                groupId,
+                Long.parseLong(values.get(0).toString()),
+                Long.parseLong(values.get(1).toString()),
+                Integer.parseInt(values.get(2).toString()),
+                Integer.parseInt(values.get(3).toString()),
+                Integer.parseInt(values.get(4).toString()));
+    }
+
+    public record GroupProgress(String groupId, Long roomId, Long userId, int total, int completed, int failed) {
+
+        public boolean finished() {
+            return completed + failed >= total;
+        }
+    }
+}
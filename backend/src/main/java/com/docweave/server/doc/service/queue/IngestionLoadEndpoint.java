@@ -0,0 +1,21 @@
+package com.docweave.server.doc.service.queue;
+
+import com.docweave.server.doc.service.queue.IngestionAdmissionController.IngestionLoad;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+// Orchestrator(Autoscaler)가 Worker 수를 조정할 때 참고하는 적재 상태 (/actuator/ingestion)
+@Component
+@Endpoint(id = "ingestion")
+@RequiredArgsConstructor
+public class IngestionLoadEndpoint {
+
+    private final IngestionAdmissionController ingestionAdmissionController;
+
+    @ReadOperation
+    public IngestionLoad load() {
+        return ingestionAdmissionController.snapshot();
+    }
+}
@@ -2,20 +2,310 @@ package com.docweave.server.doc.service.queue;
 
 import com.docweave.server.common.constant.RedisConstant;
 import com.docweave.server.doc.dto.request.DocumentIngestionRequestDto;
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+// 사용자별 Sub-queue + Round-robin Dequeue 스케줄러
+// 사용자 내부에서는 score = 등록 시각 + 크기 Penalty(상한 있음) 순으로 처리하여 작은 파일을 우선하되,
+// Penalty 상한 덕분에 오래 기다린 큰 파일이 계속 밀리지 않음 (Aging)
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class IngestionQueueService {
 
+    // 대기열 항목 = depth 필드 + 구분자 + 작업 JSON (Dequeue Script 가 같은 원자적 실행 안에서 depth 를 줄일 수 있도록)
+    private static final String MEMBER_SEPARATOR = "\n";
+    private static final int MAX_DEQUEUE_ATTEMPTS = 8;
+
+    // KEYS: 활성 사용자 목록, 활성 사용자 집합, 통계, 이후 사용자 큐들
+    // ARGV: 작업마다 (score, member, userId, 사용자 큐의 KEYS 인덱스, depth 필드) 반복
+    private static final RedisScript<Long> ENQUEUE_SCRIPT = new DefaultRedisScript<>("""
+            local count = 0
+            for i = 1, #ARGV, 5 do
+                redis.call('ZADD', KEYS[tonumber(ARGV[i + 3])], ARGV[i], ARGV[i + 1])
+                if redis.call('SADD', KEYS[2], ARGV[i + 2]) == 1 then
+                    redis.call('RPUSH', KEYS[1], ARGV[i + 2])
+                end
+                redis.call('HINCRBY', KEYS[3], ARGV[i + 4], 1)
+                count = count + 1
+            end
+            return count
+            """, Long.class);
+
+    // 활성 사용자 목록의 맨 앞 사용자(ARGV[1])에게서 score 가 가장 낮은 작업을 꺼내고 목록을 한 칸 회전
+    // 사용자 큐 Key 를 미리 선언해야 하므로 호출 측이 맨 앞 사용자를 읽어 넘기고, 그 사이 바뀌었으면 '' 를 반환해 다시 시도
+    // KEYS: 활성 사용자 목록, 활성 사용자 집합, 통계, 해당 사용자 큐
+    private static final RedisScript<String> DEQUEUE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('LINDEX', KEYS[1], 0) ~= ARGV[1] then return '' end
+            redis.call('LPOP', KEYS[1])
+            local popped = redis.call('ZPOPMIN', KEYS[4])
+            if not popped[1] then
+                redis.call('SREM', KEYS[2], ARGV[1])
+                return ''
+            end
+            if redis.call('ZCARD', KEYS[4]) > 0 then
+                redis.call('RPUSH', KEYS[1], ARGV[1])
+            else
+                redis.call('SREM', KEYS[2], ARGV[1])
+            end
+            local member = popped[1]
+            local separator = string.find(member, '\\n', 1, true)
+            redis.call('HINCRBY', KEYS[3], string.sub(member, 1, separator - 1), -1)
+            return member
+            """, String.class);
+
     private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final int smallMaxPages;
+    private final int mediumMaxPages;
+    private final long perPagePenaltyMs;
+    private final long perMegabytePenaltyMs;
+    private final long maxPenaltyMs;
+    private final long workerStaleMs;
+
+    private final Map<IngestionSizeClass, AtomicLong> depths = new EnumMap<>(IngestionSizeClass.class);
+    private final Map<IngestionSizeClass, Timer> waitTimers = new EnumMap<>(IngestionSizeClass.class);
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+
+    public IngestionQueueService(
+            RedisTemplate<String, Object> redisTemplate,
+            StringRedisTemplate stringRedisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${docweave.ingestion.scheduler.small-max-pages:10}") int smallMaxPages,
+            @Value("${docweave.ingestion.scheduler.medium-max-pages:100}") int mediumMaxPages,
+            @Value("${docweave.ingestion.scheduler.per-page-penalty-ms:2000}") long perPagePenaltyMs,
+            @Value("${docweave.ingestion.scheduler.per-megabyte-penalty-ms:1000}") long perMegabytePenaltyMs,
+            @Value("${docweave.ingestion.scheduler.max-penalty-ms:600000}") long maxPenaltyMs,
+            @Value("${docweave.ingestion.scheduler.worker-stale-ms:30000}") long workerStaleMs) {
+        this.redisTemplate = redisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.smallMaxPages = smallMaxPages;
+        this.mediumMaxPages = mediumMaxPages;
+        this.perPagePenaltyMs = perPagePenaltyMs;
+        this.perMegabytePenaltyMs = perMegabytePenaltyMs;
+        this.maxPenaltyMs = maxPenaltyMs;
+        this.workerStaleMs = workerStaleMs;
+    }
+
+    @PostConstruct
+    public void registerMetrics() {
+        for (IngestionSizeClass sizeClass : IngestionSizeClass.values()) {
+            AtomicLong depth = new AtomicLong();
+            depths.put(sizeClass, depth);
+            Gauge.builder("docweave.ingestion.queue.depth", depth, AtomicLong::get)
+                    .tag("class", sizeClass.name())
+                    .register(meterRegistry);
+
+            waitTimers.put(sizeClass, Timer.builder("docweave.ingestion.queue.wait")
+                    .tag("class", sizeClass.name())
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry));
+        }
+
+        Gauge.builder("docweave.ingestion.workers.active", activeWorkers, AtomicInteger::get)
+                .register(meterRegistry);
+    }
 
     public void push(DocumentIngestionRequestDto requestDto) {
-        log.info("Pushing document ingestion task to Redis. docId: {}", requestDto.getDocumentId());
-        redisTemplate.opsForList().rightPush(RedisConstant.DOC_INGESTION_QUEUE, requestDto);
+        if (requestDto.getEnqueuedAt() == null) {
+            requestDto.setEnqueuedAt(System.currentTimeMillis());
+        }
+
+        log.info("Pushing document ingestion task to Redis. docId: {}, userId: {}, class: {}",
+                requestDto.getDocumentId(), requestDto.getUserId(), classify(requestDto));
+
+        enqueue(List.of(requestDto));
+    }
+
+    // 일괄 업로드 묶음은 한 번의 Script 호출로 등록
+    public void pushAll(List<DocumentIngestionRequestDto> requestDtos) {
+        long now = System.currentTimeMillis();
+        requestDtos.forEach(requestDto -> {
+            if (requestDto.getEnqueuedAt() == null) requestDto.setEnqueuedAt(now);
+        });
+
+        enqueue(requestDtos);
+        log.info("Pushed {} grouped ingestion tasks. groupId: {}", requestDtos.size(), requestDtos.get(0).getGroupId());
+    }
+
+    // 다음 처리할 작업 (없으면 null)
+    public DocumentIngestionRequestDto poll() {
+        // 배포 이전에 단일 FIFO 큐에 쌓인 작업부터 처리
+        Object legacyMessage = redisTemplate.opsForList().leftPop(RedisConstant.DOC_INGESTION_QUEUE);
+        if (legacyMessage != null) {
+            return objectMapper.convertValue(legacyMessage, DocumentIngestionRequestDto.class);
+        }
+
+        String member = dequeue();
+        if (member == null) return null;
+
+        // 공유 depth 는 Script 안에서 함께 감소됨, 여기서는 이 노드의 값만 바로 반영
+        DocumentIngestionRequestDto requestDto = deserialize(member.substring(member.indexOf(MEMBER_SEPARATOR) + 1));
+        IngestionSizeClass sizeClass = classify(requestDto);
+        depths.get(sizeClass).updateAndGet(depth -> Math.max(0, depth - 1));
+        long waitedMs = Math.max(0, System.currentTimeMillis() - requestDto.getEnqueuedAt());
+        waitTimers.get(sizeClass).record(Duration.ofMillis(waitedMs));
+
+        return requestDto;
+    }
+
+    private String dequeue() {
+        for (int attempt = 0; attempt < MAX_DEQUEUE_ATTEMPTS; attempt++) {
+            String userId = stringRedisTemplate.opsForList().index(RedisConstant.DOC_INGESTION_ACTIVE_USERS, 0);
+            if (userId == null) return null;
+
+            String member = stringRedisTemplate.execute(
+                    DEQUEUE_SCRIPT,
+                    List.of(
+                            RedisConstant.DOC_INGESTION_ACTIVE_USERS,
+                            RedisConstant.DOC_INGESTION_ACTIVE_USER_SET,
+                            RedisConstant.DOC_INGESTION_STATS,
+                            RedisConstant.DOC_INGESTION_USER_QUEUE_PREFIX + userId),
+                    userId);
+            if (member != null && !member.isEmpty()) return member;
+        }
+        return null;
+    }
+
+    // Gauge 조회 시 Redis 를 호출하지 않도록 주기적으로 전체 노드 공통 Depth 갱신
+    @Scheduled(fixedDelayString = "${docweave.ingestion.scheduler.metrics-refresh-ms:5000}")
+    public void refreshDepthMetrics() {
+        try {
+            Map<Object, Object> stats = stringRedisTemplate.opsForHash().entries(RedisConstant.DOC_INGESTION_STATS);
+            for (IngestionSizeClass sizeClass : IngestionSizeClass.values()) {
+                Object value = stats.get(depthField(sizeClass));
+                depths.get(sizeClass).set(value != null ? Math.max(0, Long.parseLong(value.toString())) : 0);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to refresh ingestion queue metrics: {}", e.getMessage());
+        }
+
+        refreshActiveWorkers();
+    }
+
+    // Worker 가 처리 주기마다 생존 신호 기록 (예상 처리 시간 계산 / Autoscaling 신호에 사용)
+    public void heartbeat(String workerId) {
+        stringRedisTemplate.opsForHash().put(RedisConstant.DOC_INGESTION_WORKERS, workerId,
+                String.valueOf(System.currentTimeMillis()));
+    }
+
+    public long currentDepth() {
+        return depths.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+
+    public Map<IngestionSizeClass, Long> depthSnapshot() {
+        Map<IngestionSizeClass, Long> snapshot = new EnumMap<>(IngestionSizeClass.class);
+        depths.forEach((sizeClass, depth) -> snapshot.put(sizeClass, depth.get()));
+        return snapshot;
+    }
+
+    public int activeWorkers() {
+        return activeWorkers.get();
+    }
+
+    private void refreshActiveWorkers() {
+        try {
+            long threshold = System.currentTimeMillis() - workerStaleMs;
+            Map<Object, Object> workers = stringRedisTemplate.opsForHash().entries(RedisConstant.DOC_INGESTION_WORKERS);
+
+            int alive = 0;
+            for (Map.Entry<Object, Object> worker : workers.entrySet()) {
+                if (Long.parseLong(worker.getValue().toString()) >= threshold) {
+                    alive++;
+                } else {
+                    stringRedisTemplate.opsForHash().delete(RedisConstant.DOC_INGESTION_WORKERS, worker.getKey());
+                }
+            }
+            activeWorkers.set(alive);
+        } catch (Exception e) {
+            log.warn("Failed to refresh ingestion worker count: {}", e.getMessage());
+        }
+    }
+
+    private void enqueue(List<DocumentIngestionRequestDto> requestDtos) {
+        List<String> keys = new ArrayList<>(List.of(
+                RedisConstant.DOC_INGESTION_ACTIVE_USERS,
+                RedisConstant.DOC_INGESTION_ACTIVE_USER_SET,
+                RedisConstant.DOC_INGESTION_STATS));
+        List<String> args = new ArrayList<>(requestDtos.size() * 5);
+        for (DocumentIngestionRequestDto requestDto : requestDtos) {
+            String queueKey = RedisConstant.DOC_INGESTION_USER_QUEUE_PREFIX + requestDto.getUserId();
+            int keyIndex = keys.indexOf(queueKey);
+            if (keyIndex < 0) {
+                keys.add(queueKey);
+                keyIndex = keys.size() - 1;
+            }
+
+            String depthField = depthField(classify(requestDto));
+            args.add(String.valueOf(requestDto.getEnqueuedAt() + penaltyMs(requestDto)));
+            args.add(depthField + MEMBER_SEPARATOR + serialize(requestDto));
+            args.add(String.valueOf(requestDto.getUserId()));
+            args.add(String.valueOf(keyIndex + 1));
+            args.add(depthField);
+        }
+
+        stringRedisTemplate.execute(ENQUEUE_SCRIPT, keys, args.toArray());
+
+        // 다음 갱신 전까지의 Admission 판단에 즉시 반영
+        requestDtos.forEach(requestDto -> depths.get(classify(requestDto)).incrementAndGet());
+    }
+
+    private IngestionSizeClass classify(DocumentIngestionRequestDto requestDto) {
+        int pages = IngestionSizeClass.estimatePages(fileSizeOf(requestDto));
+        return IngestionSizeClass.of(pages, smallMaxPages, mediumMaxPages);
+    }
+
+    private long penaltyMs(DocumentIngestionRequestDto requestDto) {
+        int pages = IngestionSizeClass.estimatePages(fileSizeOf(requestDto));
+        long megabytes = fileSizeOf(requestDto) / (1024 * 1024);
+        return Math.min(maxPenaltyMs, pages * perPagePenaltyMs + megabytes * perMegabytePenaltyMs);
+    }
+
+    private long fileSizeOf(DocumentIngestionRequestDto requestDto) {
+        return requestDto.getFileSize() != null ? requestDto.getFileSize() : 0;
+    }
+
+    private String depthField(IngestionSizeClass sizeClass) {
+        return "depth:" + sizeClass.name();
+    }
+
+    private String serialize(DocumentIngestionRequestDto requestDto) {
+        try {
+            return objectMapper.writeValueAsString(requestDto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize ingestion task", e);
+        }
+    }
+
+    private DocumentIngestionRequestDto deserialize(String payload) {
+        try {
+            return objectMapper.readValue(payload, DocumentIngestionRequestDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to deserialize ingestion task", e);
+        }
     }
 }
@@ -0,0 +1,19 @@
+package com.docweave.server.doc.service.queue;
+
+// 추정 페이지 수 기준 작업 크기 분류 (Metric Tag / 우선순위 계산에 사용)
+public enum IngestionSizeClass {
+    SMALL, MEDIUM, LARGE;
+
+    // 등록 시점에는 파일을 열지 않으므로 파일 크기로 추정 (1 페이지 ≈ 100KB)
+    private static final long BYTES_PER_PAGE_ESTIMATE = 100 * 1024;
+
+    public static int estimatePages(long fileSize) {
+        return (int) Math.max(1, fileSize / BYTES_PER_PAGE_ESTIMATE);
+    }
+
+    public static IngestionSizeClass of(int pages, int smallMaxPages, int mediumMaxPages) {
+        if (pages <= smallMaxPages) return SMALL;
+        if (pages <= mediumMaxPages) return MEDIUM;
+        return LARGE;
+    }
+}
@@ -1,40 +1,93 @@
 package com.docweave.server.doc.service.queue;
 
-import com.docweave.server.common.constant.RedisConstant;
 import com.docweave.server.doc.dto.request.DocumentIngestionRequestDto;
 import com.docweave.server.doc.service.component.processor.DocumentProcessor;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import java.util.concurrent.TimeUnit;
-import lombok.RequiredArgsConstructor;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class IngestionWorker {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final IngestionQueueService ingestionQueueService;
+    private final IngestionAdmissionController ingestionAdmissionController;
     private final DocumentProcessor documentProcessor;
-    private final ObjectMapper objectMapper;
+    private final Executor ingestionTaskExecutor;
 
-    @Scheduled(fixedDelay = 1000)
+    private final String workerId = UUID.randomUUID().toString();
+    private final int concurrency;
+    // 노드당 동시 처리 수 제한 (빈 슬롯이 있을 때만 큐에서 꺼냄)
+    private final Semaphore slots;
+
+    public IngestionWorker(
+            IngestionQueueService ingestionQueueService,
+            IngestionAdmissionController ingestionAdmissionController,
+            DocumentProcessor documentProcessor,
+            @Qualifier("ingestionTaskExecutor") Executor ingestionTaskExecutor,
+            @Value("${docweave.ingestion.worker.concurrency:2}") int concurrency) {
+        this.ingestionQueueService = ingestionQueueService;
+        this.ingestionAdmissionController = ingestionAdmissionController;
+        this.documentProcessor = documentProcessor;
+        this.ingestionTaskExecutor = ingestionTaskExecutor;
+        this.concurrency = concurrency;
+        this.slots = new Semaphore(concurrency);
+    }
+
+    @Scheduled(fixedDelayString = "${docweave.ingestion.worker.poll-interval-ms:500}")
     public void consume() {
         try {
-            // 2초 동안 대기하며 큐에서 메시지 가져오기 (있으면 즉시 반환)
-            Object rawMessage = redisTemplate.opsForList().leftPop(RedisConstant.DOC_INGESTION_QUEUE, 2, TimeUnit.SECONDS);
+            // 스케줄러가 정한 순서대로, 빈 슬롯 수만큼 꺼내어 병렬 처리
+            while (slots.tryAcquire()) {
+                DocumentIngestionRequestDto requestDto;
+                try {
+                    requestDto = ingestionQueueService.poll();
+                } catch (Exception e) {
+                    slots.release();
+                    throw e;
+                }
 
-            if (rawMessage != null) {
-                DocumentIngestionRequestDto requestDto = objectMapper.convertValue(rawMessage,
-                        DocumentIngestionRequestDto.class);
-                log.info("Consumed ingestion task from Redis. docId: {}", requestDto.getDocumentId());
+                if (requestDto == null) {
+                    slots.release();
+                    return;
+                }
 
-                documentProcessor.execute(requestDto);
+                log.info("Consumed ingestion task from Redis. docId: {}, userId: {}",
+                        requestDto.getDocumentId(), requestDto.getUserId());
+                ingestionTaskExecutor.execute(() -> process(requestDto));
             }
         } catch (Exception e) {
             log.error("Error processing message from Redis queue: ", e);
         }
     }
+
+    private void process(DocumentIngestionRequestDto requestDto) {
+        try {
+            long startedAt = System.currentTimeMillis();
+            documentProcessor.execute(requestDto);
+            ingestionAdmissionController.recordCompletion(System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("Error processing ingestion task. docId: {}", requestDto.getDocumentId(), e);
+        } finally {
+            slots.release();
+        }
+    }
+
+    // 슬롯 단위로 생존 신호를 남겨 전체 병렬 처리 수를 예상 처리 시간 계산에 반영
+    // Polling 과 분리된 고정 주기 작업이라 긴 작업을 처리하는 동안에도 stale 판정(worker-stale-ms) 전에 갱신됨
+    @Scheduled(fixedRateString = "${docweave.ingestion.worker.heartbeat-interval-ms:5000}")
+    public void heartbeat() {
+        try {
+            for (int slot = 0; slot < concurrency; slot++) {
+                ingestionQueueService.heartbeat(workerId + ":" + slot);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to refresh ingestion worker heartbeat", e);
+        }
+    }
 }
@@ -0,0 +1,177 @@
+package com.docweave.server.common.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.openai.OpenAiChatModel;
+import org.springframework.ai.openai.OpenAiChatOptions;
+import org.springframework.ai.openai.api.OpenAiApi;
+import org.springframework.retry.support.RetryTemplate;
+
+class RoutingChatModelTests {
+
+    private final List<HttpServer> servers = new ArrayList<>();
+    private final ThreadPoolExecutor executor = (ThreadPoolExecutor) Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        servers.forEach(server -> server.stop(0));
+        executor.shutdownNow();
+    }
+
+    @Test
+    void failsOverAndThenPrefersHealthyBackend() throws IOException {
+        AtomicInteger failingHits = new AtomicInteger();
+        AtomicInteger healthyHits = new AtomicInteger();
+        ChatBackend failing = backend("failing", stubServer(500, 0, "unused", failingHits));
+        ChatBackend healthy = backend("healthy", stubServer(200, 0, "from-healthy", healthyHits));
+
+        RoutingChatModel model = new RoutingChatModel(List.of(failing, healthy), executor,
+                new RoutingChatModel.Options(false, 50, 2000, 10, 60_000));
+
+        assertThat(text(model.call(new Prompt("hello")))).isEqualTo("from-healthy");
+        assertThat(text(model.call(new Prompt("hello again")))).isEqualTo("from-healthy");
+
+        assertThat(failingHits.get()).isEqualTo(1);
+        assertThat(healthyHits.get()).isEqualTo(2);
+        assertThat(model.rank().get(0).getName()).isEqualTo("healthy");
+    }
+
+    @Test
+    void hedgedRequestReturnsFasterBackend() throws IOException {
+        AtomicInteger slowHits = new AtomicInteger();
+        AtomicInteger fastHits = new AtomicInteger();
+        ChatBackend slow = backend("slow", stubServer(200, 3000, "from-slow", slowHits));
+        ChatBackend fast = backend("fast", stubServer(200, 0, "from-fast", fastHits));
+
+        RoutingChatModel model = new RoutingChatModel(List.of(slow, fast), executor,
+                new RoutingChatModel.Options(true, 50, 200, 10, 60_000));
+
+        long startedAt = System.currentTimeMillis();
+        ChatResponse response = model.call(new Prompt("hello"));
+        long elapsed = System.currentTimeMillis() - startedAt;
+
+        assertThat(text(response)).isEqualTo("from-fast");
+        assertThat(elapsed).isLessThan(2000);
+        assertThat(fastHits.get()).isEqualTo(1);
+    }
+
+    @Test
+    void cancelsLosingCallWithoutCountingItAsFailure() throws Exception {
+        ChatBackend slow = backend("slow", stubServer(200, 3000, "from-slow", new AtomicInteger()));
+        ChatBackend fast = backend("fast", stubServer(200, 0, "from-fast", new AtomicInteger()));
+
+        RoutingChatModel model = new RoutingChatModel(List.of(slow, fast), executor,
+                new RoutingChatModel.Options(true, 50, 200, 10, 60_000));
+
+        assertThat(text(model.call(new Prompt("hello")))).isEqualTo("from-fast");
+
+        // 느린 요청은 응답(3초)을 기다리지 않고 중단되어 Executor 스레드를 돌려줌
+        long deadline = System.currentTimeMillis() + 1500;
+        while (executor.getActiveCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(executor.getActiveCount()).isZero();
+        assertThat(slow.errorRate()).isZero();
+    }
+
+    @Test
+    void waitsForHedgeWhenPrimaryFailsAsHedgeFires() throws IOException {
+        AtomicInteger secondaryHits = new AtomicInteger();
+        ChatBackend failing = backend("failing", stubServer(500, 100, "unused", new AtomicInteger()));
+        ChatBackend secondary = backend("secondary", stubServer(200, 200, "from-secondary", secondaryHits));
+
+        // Hedge 지연과 Primary 실패 시점을 겹쳐, 진행 중인 Hedge 가 있는데 실패로 끝나지 않는지 반복 확인
+        RoutingChatModel model = new RoutingChatModel(List.of(failing, secondary), executor,
+                new RoutingChatModel.Options(true, 100, 100, 0, 60_000));
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(text(model.call(new Prompt("hello " + i)))).isEqualTo("from-secondary");
+        }
+        assertThat(secondaryHits.get()).isEqualTo(5);
+    }
+
+    @Test
+    void givesUpAfterHedgeTimeout() throws IOException {
+        ChatBackend first = backend("first", stubServer(200, 3000, "from-first", new AtomicInteger()));
+        ChatBackend second = backend("second", stubServer(200, 3000, "from-second", new AtomicInteger()));
+
+        RoutingChatModel model = new RoutingChatModel(List.of(first, second), executor,
+                new RoutingChatModel.Options(true, 50, 50, 10, 300));
+
+        long startedAt = System.currentTimeMillis();
+        assertThatThrownBy(() -> model.call(new Prompt("hello"))).isInstanceOf(IllegalStateException.class);
+        assertThat(System.currentTimeMillis() - startedAt).isLessThan(2000);
+    }
+
+    private ChatBackend backend(String name, HttpServer server) {
+        OpenAiApi api = OpenAiApi.builder()
+                .baseUrl("http://localhost:" + server.getAddress().getPort())
+                .apiKey("test-key")
+                .build();
+
+        OpenAiChatModel chatModel = OpenAiChatModel.builder()
+                .openAiApi(api)
+                .defaultOptions(OpenAiChatOptions.builder().model("stub-model").build())
+                .retryTemplate(RetryTemplate.builder().maxAttempts(1).build())
+                .build();
+
+        return new ChatBackend(name, chatModel, 20, 30_000);
+    }
+
+    private HttpServer stubServer(int status, long delayMillis, String content, AtomicInteger hits) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/v1/chat/completions", exchange -> {
+            hits.incrementAndGet();
+            exchange.getRequestBody().readAllBytes();
+            sleep(delayMillis);
+
+            String body = status == 200 ? completion(content) : "{\"error\":{\"message\":\"stub failure\"}}";
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+        servers.add(server);
+        return server;
+    }
+
+    private String completion(String content) {
+        return """
+                {"id":"chatcmpl-stub","object":"chat.completion","created":1700000000,"model":"stub-model",
+                 "choices":[{"index":0,"message":{"role":"assistant","content":"%s"},"finish_reason":"stop"}],
+                 "usage":{"prompt_tokens":3,"completion_tokens":2,"total_tokens":5}}
+                """.formatted(content);
+    }
+
+    private String text(ChatResponse response) {
+        return response.getResult().getOutput().getText();
+    }
+
+    private void sleep(long millis) {
+        if (millis <= 0) return;
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.docweave.server.common.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.docweave.server.auth.dto.common.CustomUserDetailsDto;
+import com.docweave.server.auth.entity.User;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+// Primary / Replica 를 서로 다른 DB 이름의 컨테이너로 띄워 어느 쪽으로 라우팅되었는지 확인
+@Testcontainers(disabledWithoutDocker = true)
+class ReplicaRoutingDataSourceTests {
+
+    @Container
+    static final PostgreSQLContainer<?> primary = new PostgreSQLContainer<>("postgres:16").withDatabaseName("primary_db");
+
+    @Container
+    static final PostgreSQLContainer<?> replica = new PostgreSQLContainer<>("postgres:16").withDatabaseName("replica_db");
+
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        ReadYourWritesGuard guard = new ReadYourWritesGuard(null, null, 2000, 10000);
+        routingDataSource = new ReplicaRoutingDataSource(dataSource(primary), List.of(dataSource(replica)), guard);
+        routingDataSource.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void routesReadOnlyTransactionsToReplica() {
+        assertThat(databaseIn(readOnly)).isEqualTo("replica_db");
+        assertThat(databaseIn(readWrite)).isEqualTo("primary_db");
+        assertThat(currentDatabase()).isEqualTo("primary_db");
+    }
+
+    @Test
+    void readsOwnRecentWritesFromPrimary() {
+        authenticate(1L);
+        readWrite.executeWithoutResult(status -> currentDatabase());
+        assertThat(databaseIn(readOnly)).isEqualTo("primary_db");
+
+        authenticate(2L);
+        assertThat(databaseIn(readOnly)).isEqualTo("replica_db");
+    }
+
+    @Test
+    void ignoresRolledBackWrites() {
+        authenticate(1L);
+        readWrite.executeWithoutResult(status -> {
+            currentDatabase();
+            status.setRollbackOnly();
+        });
+        assertThat(databaseIn(readOnly)).isEqualTo("replica_db");
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReplicaIsExcluded() {
+        routingDataSource.getReplicas().get(0).update(false, 0);
+        assertThat(databaseIn(readOnly)).isEqualTo("primary_db");
+    }
+
+    private String databaseIn(TransactionTemplate transactionTemplate) {
+        return transactionTemplate.execute(status -> currentDatabase());
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT current_database()", String.class);
+    }
+
+    private void authenticate(Long userId) {
+        CustomUserDetailsDto principal = new CustomUserDetailsDto(User.builder().id(userId).build());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+
+    private static DataSource dataSource(PostgreSQLContainer<?> container) {
+        return new DriverManagerDataSource(container.getJdbcUrl(), container.getUsername(), container.getPassword());
+    }
+}
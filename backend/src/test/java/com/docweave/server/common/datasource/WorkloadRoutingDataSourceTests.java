@@ -0,0 +1,99 @@
+package com.docweave.server.common.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+// AsyncConfig 와 같은 Scheduler Hook 을 걸고, Reactor 스레드 전환 뒤에도 예약한 쪽의 Connection Pool 을 고르는지 확인
+class WorkloadRoutingDataSourceTests {
+
+    private final DataSource interactive = mock(DataSource.class);
+    private final DataSource ingestion = mock(DataSource.class);
+    private final Connection interactiveConnection = mock(Connection.class);
+    private final Connection ingestionConnection = mock(Connection.class);
+    private WorkloadRoutingDataSource routingDataSource;
+
+    @BeforeAll
+    static void propagateWorkload() {
+        Schedulers.onScheduleHook(Workload.class.getName(), Workload::propagate);
+    }
+
+    @AfterAll
+    static void resetWorkloadPropagation() {
+        Schedulers.resetOnScheduleHook(Workload.class.getName());
+    }
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(interactive.getConnection()).thenReturn(interactiveConnection);
+        when(ingestion.getConnection()).thenReturn(ingestionConnection);
+        routingDataSource = new WorkloadRoutingDataSource(interactive, ingestion);
+        routingDataSource.afterPropertiesSet();
+    }
+
+    @Test
+    void routesByCurrentWorkload() throws SQLException {
+        Connection ingested = Workload.INGESTION.call(this::connection);
+        Connection interacted = connection();
+
+        assertThat(ingested).isSameAs(ingestionConnection);
+        assertThat(interacted).isSameAs(interactiveConnection);
+        verify(ingestion, times(1)).getConnection();
+        verify(interactive, times(1)).getConnection();
+    }
+
+    @Test
+    void keepsWorkloadAcrossPublishOnAndFlatMapSequential() throws SQLException {
+        List<Selection> ingested = Workload.INGESTION.call(this::selectAcrossHops);
+        assertThat(ingested).hasSize(32).allSatisfy(selection -> {
+            assertThat(selection.connection()).isSameAs(ingestionConnection);
+            assertThat(selection.thread()).isNotEqualTo(Thread.currentThread().getName());
+        });
+        verify(ingestion, times(32)).getConnection();
+        verify(interactive, never()).getConnection();
+
+        // 같은 Scheduler 스레드를 다시 쓰더라도 이전 작업의 Workload 가 남지 않아야 함
+        List<Selection> interacted = selectAcrossHops();
+        assertThat(interacted).hasSize(32)
+                .allSatisfy(selection -> assertThat(selection.connection()).isSameAs(interactiveConnection));
+        verify(interactive, times(32)).getConnection();
+    }
+
+    private List<Selection> selectAcrossHops() {
+        return Flux.range(0, 32)
+                .publishOn(Schedulers.boundedElastic())
+                .flatMapSequential(i -> Mono.fromCallable(this::select).subscribeOn(Schedulers.parallel()), 4)
+                .collectList()
+                .block();
+    }
+
+    private Selection select() {
+        return new Selection(connection(), Thread.currentThread().getName());
+    }
+
+    private Connection connection() {
+        try {
+            return routingDataSource.getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Selection(Connection connection, String thread) {
+    }
+}
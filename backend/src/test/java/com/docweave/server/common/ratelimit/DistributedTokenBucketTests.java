@@ -0,0 +1,152 @@
+package com.docweave.server.common.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.docweave.server.auth.dto.common.CustomUserDetailsDto;
+import com.docweave.server.auth.entity.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+// 여러 노드(Filter 인스턴스)가 같은 Redis 버킷을 나눠 쓰는지, 임대 토큰 / 버킷 Key 가 만료되는지 확인
+@Testcontainers(disabledWithoutDocker = true)
+class DistributedTokenBucketTests {
+
+    @Container
+    static final GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private DistributedTokenBucket tokenBucket;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        tokenBucket = new DistributedTokenBucket(redisTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        connectionFactory.getConnection().serverCommands().flushAll();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void grantsUpToCapacityThenRefills() throws InterruptedException {
+        RateLimitProperties.Limit limit = limit(3, 60);
+
+        assertThat(tokenBucket.lease("chat:1", limit, 5, 0).granted()).isEqualTo(3);
+        DistributedTokenBucket.Lease empty = tokenBucket.lease("chat:1", limit, 1, 0);
+        assertThat(empty.granted()).isZero();
+        assertThat(empty.retryAfterMillis()).isBetween(1L, 1000L);
+
+        // 다른 사용자의 버킷은 영향 없음
+        assertThat(tokenBucket.lease("chat:2", limit, 1, 0).granted()).isEqualTo(1);
+
+        Thread.sleep(1100);
+        assertThat(tokenBucket.lease("chat:1", limit, 5, 0).granted()).isEqualTo(1);
+    }
+
+    @Test
+    void acceptsReturnedPermitsUpToCapacity() {
+        RateLimitProperties.Limit limit = limit(3, 1);
+
+        assertThat(tokenBucket.lease("chat:1", limit, 3, 0).granted()).isEqualTo(3);
+        assertThat(tokenBucket.lease("chat:1", limit, 3, 2).granted()).isEqualTo(2);
+        assertThat(tokenBucket.lease("chat:1", limit, 3, 10).granted()).isEqualTo(3);
+    }
+
+    @Test
+    void expiresIdleBucketKeys() {
+        tokenBucket.lease("chat:1", limit(3, 60), 1, 0);
+
+        // 가득 찰 때까지 걸리는 시간(3초) + 1초 뒤 만료
+        Long ttl = redisTemplate.getExpire("rate_limit:chat:1", TimeUnit.MILLISECONDS);
+        assertThat(ttl).isBetween(1L, 4000L);
+    }
+
+    @Test
+    void nodesShareOneBucket() throws Exception {
+        RateLimitProperties properties = properties(4, 1, 2, 60_000);
+        RateLimitFilter nodeA = filter(properties);
+        RateLimitFilter nodeB = filter(properties);
+        authenticate(1L);
+
+        assertThat(chat(nodeA).getStatus()).isEqualTo(200);
+        assertThat(chat(nodeA).getStatus()).isEqualTo(200);
+        assertThat(chat(nodeB).getStatus()).isEqualTo(200);
+        assertThat(chat(nodeB).getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse rejected = chat(nodeA);
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isNotNull();
+        assertThat(chat(nodeB).getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void expiredLeaseIsReturnedInsteadOfSpent() throws Exception {
+        RateLimitProperties properties = properties(2, 1, 2, 200);
+        RateLimitFilter nodeA = filter(properties);
+        RateLimitFilter nodeB = filter(properties);
+        authenticate(1L);
+
+        // A 가 2개를 임대해 1개만 사용 → 버킷은 비어 B 는 거절
+        assertThat(chat(nodeA).getStatus()).isEqualTo(200);
+        assertThat(chat(nodeB).getStatus()).isEqualTo(429);
+
+        // 임대가 만료된 뒤 A 는 남은 1개를 로컬에서 쓰지 않고 버킷에 돌려준 뒤 다시 임대
+        Thread.sleep(300);
+        assertThat(chat(nodeA).getStatus()).isEqualTo(200);
+        assertThat(chat(nodeA).getStatus()).isEqualTo(429);
+    }
+
+    private MockHttpServletResponse chat(RateLimitFilter filter) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/doc/rooms/1/chat"), response, new MockFilterChain());
+        return response;
+    }
+
+    private RateLimitFilter filter(RateLimitProperties properties) {
+        return new RateLimitFilter(properties, tokenBucket, new ObjectMapper(), new SimpleMeterRegistry());
+    }
+
+    private RateLimitProperties properties(int capacity, int refillPerMinute, int leaseSize, long leaseTtlMs) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setLeaseSize(leaseSize);
+        properties.setLeaseTtlMs(leaseTtlMs);
+        properties.setRoles(Map.of(User.Role.USER, Map.of(EndpointClass.CHAT, limit(capacity, refillPerMinute))));
+        return properties;
+    }
+
+    private RateLimitProperties.Limit limit(int capacity, int refillPerMinute) {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setCapacity(capacity);
+        limit.setRefillPerMinute(refillPerMinute);
+        return limit;
+    }
+
+    private void authenticate(Long userId) {
+        CustomUserDetailsDto principal = new CustomUserDetailsDto(User.builder().id(userId).role(User.Role.USER).build());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+}
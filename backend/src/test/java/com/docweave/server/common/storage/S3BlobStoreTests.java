@@ -0,0 +1,98 @@
+package com.docweave.server.common.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.docweave.server.common.storage.BlobStore.StagedBlob;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+
+// MinIO 컨테이너에 대해 Stage → Commit → Open 흐름과 길이를 모르는 스트림의 Multipart 업로드 확인
+@Testcontainers(disabledWithoutDocker = true)
+class S3BlobStoreTests {
+
+    @Container
+    static final MinIOContainer minio = new MinIOContainer("minio/minio:RELEASE.2024-01-16T16-07-38Z");
+
+    private S3Client s3Client;
+    private S3BlobStore blobStore;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = S3Client.builder()
+                .region(Region.US_EAST_1)
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(minio.getUserName(), minio.getPassword())))
+                .endpointOverride(URI.create(minio.getS3URL()))
+                .forcePathStyle(true)
+                .build();
+        blobStore = new S3BlobStore(s3Client, "docweave-test");
+        blobStore.ensureBucket();
+    }
+
+    @Test
+    void storesKnownLengthStreamUnderContentHash() throws IOException {
+        byte[] content = "hello docweave".getBytes(StandardCharsets.UTF_8);
+
+        StagedBlob stagedBlob = blobStore.stage(new ByteArrayInputStream(content), content.length);
+        blobStore.commit(stagedBlob);
+
+        assertThat(stagedBlob.size()).isEqualTo(content.length);
+        assertThat(read(stagedBlob.key())).isEqualTo(content);
+        assertThat(objectCount(stagedBlob.stagingLocation())).isZero();
+    }
+
+    @Test
+    void uploadsUnknownLengthStreamInParts() throws IOException {
+        // Part 크기(8MB)를 넘겨 여러 Part 로 나뉘도록 함
+        byte[] content = new byte[9 * 1024 * 1024 + 123];
+        new Random(42).nextBytes(content);
+
+        StagedBlob stagedBlob = blobStore.stage(new ByteArrayInputStream(content), -1);
+        blobStore.commit(stagedBlob);
+
+        assertThat(stagedBlob.size()).isEqualTo(content.length);
+        assertThat(read(stagedBlob.key())).isEqualTo(content);
+    }
+
+    @Test
+    void deduplicatesSameContentAndDeletes() throws IOException {
+        byte[] content = "same content".getBytes(StandardCharsets.UTF_8);
+
+        StagedBlob first = blobStore.stage(new ByteArrayInputStream(content), content.length);
+        blobStore.commit(first);
+        StagedBlob second = blobStore.stage(new ByteArrayInputStream(content), -1);
+        blobStore.commit(second);
+
+        assertThat(second.key()).isEqualTo(first.key());
+        assertThat(objectCount("blobs/" + first.key())).isEqualTo(1);
+
+        blobStore.delete(first.key());
+        assertThatThrownBy(() -> blobStore.open(first.key())).isInstanceOf(IOException.class);
+    }
+
+    private byte[] read(String key) throws IOException {
+        try (InputStream in = blobStore.open(key).getInputStream()) {
+            return in.readAllBytes();
+        }
+    }
+
+    private int objectCount(String prefix) {
+        return s3Client.listObjectsV2(ListObjectsV2Request.builder().bucket("docweave-test").prefix(prefix).build())
+                .keyCount();
+    }
+}
@@ -0,0 +1,118 @@
+package com.docweave.server.doc.service.component.chunker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.docweave.server.common.constant.EmbeddingConstant;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.transformer.splitter.TokenTextSplitter;
+
+class HierarchicalTokenChunkerTests {
+
+    private static final String[] WORDS = {
+            "document", "retrieval", "parent", "chunk", "embedding", "vector", "index", "query", "answer",
+            "context", "token", "window", "boundary", "sentence", "paragraph", "section", "model", "score"};
+
+    private final HierarchicalTokenChunker chunker = new HierarchicalTokenChunker();
+
+    // 기존 경로: Parent 를 TokenTextSplitter 로 자르고, 각 Parent 를 다시 TokenTextSplitter 로 Child 분할
+    @Test
+    void matchesTokenTextSplitterBoundaries() {
+        String text = prose(new Random(7), 400);
+
+        TokenTextSplitter parentSplitter = new TokenTextSplitter(EmbeddingConstant.PARENT_CHUNK_SIZE, 100, 10, 1000, true);
+        TokenTextSplitter childSplitter = new TokenTextSplitter(EmbeddingConstant.CHILD_CHUNK_SIZE, 50, 10, 100, true);
+        List<Document> expectedParents = parentSplitter.apply(List.of(new Document(text)));
+
+        List<ParentChunk> parents = chunker.split(text);
+
+        assertThat(parents).extracting(ParentChunk::content)
+                .containsExactlyElementsOf(expectedParents.stream().map(Document::getText).toList());
+        for (int i = 0; i < parents.size(); i++) {
+            List<String> expectedChildren = childSplitter.apply(List.of(expectedParents.get(i))).stream()
+                    .map(Document::getText)
+                    .toList();
+            assertThat(parents.get(i).children()).extracting(ChildChunk::content)
+                    .containsExactlyElementsOf(expectedChildren);
+        }
+    }
+
+    @Test
+    void keepsKoreanTextIntactAcrossChunkBoundaries() {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 600; i++) {
+            // 문장부호 없이 이어지는 구간을 섞어 토큰 경계에서 잘리도록 함
+            text.append(i % 7 == 0 ? "검색 증강 생성은 문서를 조각으로 나누어 색인합니다. " : "한국어 형태소 경계와 무관하게 토큰이 나뉘는 문장 ");
+        }
+
+        assertPreserved(text.toString(), chunker.split(text.toString()));
+    }
+
+    @Test
+    void neverSplitsEmojiBetweenByteTokens() {
+        String[] emoji = {"😀", "🎉", "👍🏽", "🧑‍💻", "🇰🇷"};
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 3000; i++) {
+            text.append(emoji[i % emoji.length]);
+            if (i % 5 == 4) text.append(' ');
+        }
+
+        List<ParentChunk> parents = chunker.split(text.toString());
+
+        assertPreserved(text.toString(), parents);
+        assertThat(parents).allSatisfy(parent -> assertThat(parent.children())
+                .allSatisfy(child -> assertThat(Character.isLowSurrogate(child.content().charAt(0))).isFalse()));
+    }
+
+    @Test
+    void splitByTokensKeepsMultibyteCharacters() {
+        String text = "데이터베이스 🚀 인덱스 ".repeat(500);
+
+        List<String> chunks = chunker.splitByTokens(text, 64);
+
+        assertThat(chunks).hasSizeGreaterThan(1).noneMatch(chunk -> chunk.contains("�"));
+        assertThat(String.join("", chunks).replaceAll("\\s", "")).isEqualTo(text.replaceAll("\\s", ""));
+    }
+
+    // 잘린 글자(U+FFFD) 없이 Parent / Child 가 원문을 순서대로 덮어야 함
+    // (minChunkLengthToEmbed 이하의 짧은 조각은 버려지므로 그만큼의 건너뜀은 허용)
+    private void assertPreserved(String text, List<ParentChunk> parents) {
+        assertThat(parents).isNotEmpty();
+        assertThat(parents).allSatisfy(parent -> {
+            assertThat(parent.content()).doesNotContain("�");
+            assertThat(parent.children()).allSatisfy(child -> assertThat(child.content()).doesNotContain("�"));
+        });
+
+        assertCovers(text, parents.stream().map(ParentChunk::content).toList());
+        assertCovers(text, parents.stream().flatMap(parent -> parent.children().stream()).map(ChildChunk::content).toList());
+    }
+
+    private void assertCovers(String text, List<String> chunks) {
+        String expected = text.replaceAll("\\s", "");
+        int position = 0;
+        for (String chunk : chunks) {
+            String compact = chunk.replaceAll("\\s", "");
+            int found = expected.indexOf(compact, position);
+            assertThat(found).isBetween(position, position + 10);
+            position = found + compact.length();
+        }
+        assertThat(expected.length() - position).isLessThanOrEqualTo(10);
+    }
+
+    private String prose(Random random, int sentences) {
+        String[] endings = {".", ".", ".", "?", "!"};
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < sentences; i++) {
+            int words = 6 + random.nextInt(14);
+            for (int w = 0; w < words; w++) {
+                String word = WORDS[random.nextInt(WORDS.length)];
+                text.append(w == 0 ? Character.toUpperCase(word.charAt(0)) + word.substring(1) : word);
+                text.append(w == words - 1 ? endings[random.nextInt(endings.length)] : " ");
+            }
+            text.append(i % 9 == 8 ? "\n\n" : " ");
+        }
+        return text.toString().strip();
+    }
+}
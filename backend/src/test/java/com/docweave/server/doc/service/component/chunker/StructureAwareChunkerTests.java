@@ -0,0 +1,113 @@
+package com.docweave.server.doc.service.component.chunker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.docweave.server.common.constant.EmbeddingConstant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class StructureAwareChunkerTests {
+
+    private static final String TABLE_HEADER = "| 항목 | 설명 | 값 |\n|---|---|---|";
+
+    private final StructureAwareChunker chunker = new StructureAwareChunker();
+
+    @Test
+    void recordsHeadingPathPerSection() {
+        String markdown = """
+                # 설치 안내
+
+                설치 전에 요구 사항을 확인합니다.
+
+                ## 요구 사항
+
+                Java 17 이상과 Docker 가 필요합니다.
+
+                # 운영
+
+                운영 환경 설정을 설명합니다.
+                """;
+
+        List<ParentChunk> parents = chunker.split(markdown);
+
+        assertThat(parents).extracting(ParentChunk::headingPath)
+                .containsExactly("설치 안내", "설치 안내 > 요구 사항", "운영");
+        assertThat(parents.get(1).content()).startsWith("## 요구 사항");
+    }
+
+    @Test
+    void attachesHeadingOnlySectionToNextSection() {
+        String markdown = """
+                # 1장
+
+                ## 1.1 개요
+
+                본문은 하위 절에서 시작합니다.
+                """;
+
+        List<ParentChunk> parents = chunker.split(markdown);
+
+        assertThat(parents).hasSize(1);
+        assertThat(parents.get(0).headingPath()).isEqualTo("1장 > 1.1 개요");
+        assertThat(parents.get(0).content()).startsWith("# 1장\n\n## 1.1 개요");
+    }
+
+    @Test
+    void packsSmallSiblingSectionsUpToParentLimit() {
+        StringBuilder markdown = new StringBuilder("# 용어집\n\n용어 설명 모음입니다.\n\n");
+        for (int i = 1; i <= 5; i++) {
+            markdown.append("## 용어 ").append(i).append("\n\n").append("용어 ").append(i).append(" 의 짧은 설명입니다.\n\n");
+        }
+
+        List<ParentChunk> parents = chunker.split(markdown.toString());
+
+        // 상위 Section 과 짧은 형제 Section 5개 → 형제끼리 하나의 Parent 로 묶임
+        assertThat(parents).hasSize(2);
+        assertThat(parents.get(1).headingPath()).isEqualTo("용어집");
+        assertThat(parents.get(1).content()).contains("## 용어 1", "## 용어 5");
+    }
+
+    @Test
+    void splitsLargeTableByRowsRepeatingHeader() {
+        StringBuilder markdown = new StringBuilder("# 설정 값\n\n").append(TABLE_HEADER);
+        for (int i = 0; i < 400; i++) {
+            markdown.append("\n| key.").append(i).append(" | 설정 항목 ").append(i).append(" 에 대한 설명 | ").append(i * 10).append(" |");
+        }
+
+        List<ParentChunk> parents = chunker.split(markdown.toString());
+
+        assertThat(parents).hasSizeGreaterThan(1);
+        assertThat(parents).allSatisfy(parent -> {
+            assertThat(parent.tokenCount()).isLessThanOrEqualTo(EmbeddingConstant.PARENT_CHUNK_SIZE);
+            assertThat(parent.headingPath()).isEqualTo("설정 값");
+            assertThat(parent.children()).allSatisfy(child -> {
+                assertThat(child.tokenCount()).isLessThanOrEqualTo(EmbeddingConstant.CHILD_CHUNK_SIZE);
+                // 제목만 따로 남은 Child 를 제외하면 모든 행 묶음 앞에 머리행이 반복됨
+                if (child.content().contains("| key.")) assertThat(child.content()).contains(TABLE_HEADER);
+            });
+        });
+        assertThat(parents.stream().filter(parent -> parent.content().contains("| key.399 |"))).hasSize(1);
+    }
+
+    @Test
+    void splitsLargeListAtItemBoundaries() {
+        StringBuilder markdown = new StringBuilder("# 체크리스트\n\n");
+        for (int i = 0; i < 200; i++) {
+            markdown.append("- 점검 항목 ").append(i).append(": 배포 전에 설정과 권한, 로그 수준을 확인합니다.\n");
+        }
+
+        List<ParentChunk> parents = chunker.split(markdown.toString());
+
+        assertThat(parents).hasSizeGreaterThan(1);
+        List<ChildChunk> children = parents.stream().flatMap(parent -> parent.children().stream()).toList();
+        assertThat(children).allSatisfy(child -> {
+            assertThat(child.tokenCount()).isLessThanOrEqualTo(EmbeddingConstant.CHILD_CHUNK_SIZE);
+            assertThat(child.content().lines().filter(line -> !line.isBlank() && !line.startsWith("#")))
+                    .allMatch(line -> line.startsWith("- 점검 항목 ") && line.endsWith("확인합니다."));
+        });
+        for (int i = 0; i < 200; i++) {
+            String item = "- 점검 항목 " + i + ": ";
+            assertThat(children.stream().filter(child -> child.content().contains(item))).hasSize(1);
+        }
+    }
+}
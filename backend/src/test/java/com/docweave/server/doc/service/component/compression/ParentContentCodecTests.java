@@ -0,0 +1,58 @@
+package com.docweave.server.doc.service.component.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.docweave.server.doc.entity.DocContentDictionary;
+import com.docweave.server.doc.repository.DocContentDictionaryRepository;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class ParentContentCodecTests {
+
+    private final DocContentDictionaryRepository dictionaryRepository = mock(DocContentDictionaryRepository.class);
+    private final ParentContentCodec codec = new ParentContentCodec(dictionaryRepository, "zstd", 6, 16384, 8, 256);
+
+    @Test
+    void decodesWithoutDictionaryLookupWhenFrameHasNoDictionary() {
+        byte[] raw = "사전 없이 압축한 본문".getBytes(StandardCharsets.UTF_8);
+
+        String decoded = codec.decode(1L, null, codec.compress(raw, null), raw.length);
+
+        assertThat(decoded).isEqualTo("사전 없이 압축한 본문");
+        verify(dictionaryRepository, never()).findById(any());
+    }
+
+    @Test
+    void doesNotRememberMissingDictionary() {
+        List<byte[]> samples = samples();
+        byte[] dictionary = codec.trainDictionary(samples);
+        byte[] raw = samples.get(0);
+        byte[] compressed = codec.compress(raw, codec.compressionDictionary(dictionary));
+
+        // Replica 에 사전이 아직 없던 첫 조회는 실패하지만, 반영된 뒤의 조회는 성공해야 함
+        when(dictionaryRepository.findById(1L))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(new DocContentDictionary(1L, dictionary)));
+
+        assertThatThrownBy(() -> codec.decode(1L, null, compressed, raw.length)).isInstanceOf(IllegalStateException.class);
+        assertThat(codec.decode(1L, null, compressed, raw.length)).isEqualTo(new String(raw, StandardCharsets.UTF_8));
+    }
+
+    private List<byte[]> samples() {
+        List<byte[]> samples = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            samples.add(("## 설치 안내 " + i + "\n\n설정 파일의 docweave.storage 항목을 확인하고 서버를 다시 시작합니다. 항목 번호 " + i)
+                    .getBytes(StandardCharsets.UTF_8));
+        }
+        return samples;
+    }
+}
@@ -0,0 +1,153 @@
+package com.docweave.server.doc.service.component.journal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.docweave.server.doc.entity.ChatMessage;
+import com.docweave.server.doc.entity.ChatMessage.MessageRole;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// DB 대신 INSERT 인자를 기록하는 JdbcTemplate 으로 반영 순서와 실패 유형별 재시도 / 폐기를 확인
+class ChatMessageJournalTests {
+
+    private final RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate();
+    private final ChatMessageJournal journal = new ChatMessageJournal(jdbcTemplate);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(journal, "batchSize", 500);
+        ReflectionTestUtils.setField(journal, "maxPending", 10000);
+        ReflectionTestUtils.setField(journal, "flushedRetentionMillis", 5000L);
+    }
+
+    @Test
+    void flushesInAppendOrderWithIncreasingTimestamps() {
+        journal.append(1L, MessageRole.USER, "q1");
+        journal.append(1L, MessageRole.AI, "a1");
+        journal.append(2L, MessageRole.USER, "q2");
+        journal.append(1L, MessageRole.USER, "q3");
+
+        journal.flush();
+
+        assertThat(jdbcTemplate.contents()).containsExactly("q1", "a1", "q2", "q3");
+        assertThat(jdbcTemplate.createdAts()).isSorted().doesNotHaveDuplicates();
+        assertThat(jdbcTemplate.statements).isEqualTo(1);
+    }
+
+    @Test
+    void keepsBatchInOrderAfterTransientFailure() {
+        journal.append(1L, MessageRole.USER, "q1");
+        journal.append(1L, MessageRole.AI, "a1");
+        jdbcTemplate.failure = args -> new TransientDataAccessResourceException("connection refused");
+
+        journal.flush();
+
+        assertThat(jdbcTemplate.contents()).isEmpty();
+        // 반영 전에도 같은 방 조회에는 보여야 함
+        assertThat(journal.merge(1L, List.of())).extracting(ChatMessage::getContent).containsExactly("q1", "a1");
+
+        journal.append(1L, MessageRole.USER, "q2");
+        jdbcTemplate.failure = args -> null;
+        journal.flush();
+
+        assertThat(jdbcTemplate.contents()).containsExactly("q1", "a1", "q2");
+    }
+
+    @Test
+    void dropsOnlyRowsViolatingConstraint() {
+        journal.append(1L, MessageRole.USER, "q1");
+        journal.append(99L, MessageRole.USER, "deleted-room");
+        journal.append(1L, MessageRole.AI, "a1");
+        jdbcTemplate.failure = args -> args.length > 4 || Long.valueOf(99L).equals(args[0])
+                ? new DataIntegrityViolationException("fk_chat_message_room")
+                : null;
+
+        journal.flush();
+        journal.flush();
+
+        assertThat(jdbcTemplate.contents()).containsExactly("q1", "a1");
+    }
+
+    @Test
+    void retriesRemainderWhenRowByRowInsertHitsTransientFailure() {
+        journal.append(1L, MessageRole.USER, "q1");
+        journal.append(99L, MessageRole.USER, "deleted-room");
+        journal.append(1L, MessageRole.AI, "a1");
+        journal.append(1L, MessageRole.USER, "q2");
+        jdbcTemplate.failure = args -> {
+            if (args.length > 4 || Long.valueOf(99L).equals(args[0])) return new DataIntegrityViolationException("fk_chat_message_room");
+            if ("a1".equals(args[2])) return new TransientDataAccessResourceException("connection reset");
+            return null;
+        };
+
+        journal.flush();
+        assertThat(jdbcTemplate.contents()).containsExactly("q1");
+
+        jdbcTemplate.failure = args -> null;
+        journal.flush();
+        assertThat(jdbcTemplate.contents()).containsExactly("q1", "a1", "q2");
+    }
+
+    @Test
+    void flushesOnCallerThreadWhenFull() {
+        ReflectionTestUtils.setField(journal, "maxPending", 2);
+        journal.append(1L, MessageRole.USER, "q1");
+        journal.append(1L, MessageRole.AI, "a1");
+
+        journal.append(1L, MessageRole.USER, "q2");
+
+        assertThat(jdbcTemplate.contents()).containsExactly("q1", "a1");
+        journal.flush();
+        assertThat(jdbcTemplate.contents()).containsExactly("q1", "a1", "q2");
+    }
+
+    @Test
+    void rejectsAppendWhenFullAndDatabaseUnavailable() {
+        ReflectionTestUtils.setField(journal, "maxPending", 2);
+        journal.append(1L, MessageRole.USER, "q1");
+        journal.append(1L, MessageRole.AI, "a1");
+        jdbcTemplate.failure = args -> new TransientDataAccessResourceException("connection refused");
+
+        assertThatThrownBy(() -> journal.append(1L, MessageRole.USER, "q2")).isInstanceOf(IllegalStateException.class);
+
+        jdbcTemplate.failure = args -> null;
+        journal.flush();
+        assertThat(jdbcTemplate.contents()).containsExactly("q1", "a1");
+    }
+
+    private static final class RecordingJdbcTemplate extends JdbcTemplate {
+
+        private final List<Object[]> rows = new ArrayList<>();
+        private Function<Object[], RuntimeException> failure = args -> null;
+        private int statements;
+
+        @Override
+        public int update(String sql, Object... args) {
+            RuntimeException error = failure.apply(args);
+            if (error != null) throw error;
+
+            statements++;
+            for (int i = 0; i < args.length; i += 4) {
+                rows.add(new Object[] {args[i], args[i + 1], args[i + 2], args[i + 3]});
+            }
+            return args.length / 4;
+        }
+
+        List<String> contents() {
+            return rows.stream().map(row -> (String) row[2]).toList();
+        }
+
+        List<Timestamp> createdAts() {
+            return rows.stream().map(row -> (Timestamp) row[3]).toList();
+        }
+    }
+}
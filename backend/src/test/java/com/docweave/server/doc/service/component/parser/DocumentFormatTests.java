@@ -0,0 +1,66 @@
+package com.docweave.server.doc.service.component.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class DocumentFormatTests {
+
+    @Test
+    void acceptsMatchingMagicBytes() {
+        assertThat(DocumentFormat.sniff("%PDF-1.7\n".getBytes(StandardCharsets.US_ASCII), "report.pdf"))
+                .isEqualTo(DocumentFormat.PDF);
+        assertThat(DocumentFormat.sniff(new byte[] {'P', 'K', 3, 4, 0, 0}, "report.docx"))
+                .isEqualTo(DocumentFormat.DOCX);
+        assertThat(DocumentFormat.sniff("# 제목\n본문".getBytes(StandardCharsets.UTF_8), "notes.md"))
+                .isEqualTo(DocumentFormat.MARKDOWN);
+    }
+
+    @Test
+    void rejectsContentNotMatchingExtension() {
+        assertThat(DocumentFormat.sniff("plain".getBytes(StandardCharsets.US_ASCII), "report.pdf")).isNull();
+        assertThat(DocumentFormat.sniff("plain".getBytes(StandardCharsets.US_ASCII), "report.docx")).isNull();
+        assertThat(DocumentFormat.sniff(new byte[] {'P', 'K', 3, 4, 0, 0}, "notes.txt")).isNull();
+        assertThat(DocumentFormat.sniff("plain".getBytes(StandardCharsets.US_ASCII), "image.png")).isNull();
+    }
+
+    @Test
+    void treatsHtmlContentAsHtmlRegardlessOfExtension() {
+        byte[] head = "\n  <!DOCTYPE html><html><body>본문</body></html>".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(DocumentFormat.sniff(head, "page.txt")).isEqualTo(DocumentFormat.HTML);
+        assertThat(DocumentFormat.sniff(withBom(new byte[] {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF}, head), "page.htm"))
+                .isEqualTo(DocumentFormat.HTML);
+    }
+
+    @Test
+    void acceptsUtf16TextWithByteOrderMark() {
+        assertThat(DocumentFormat.sniff(utf16("안녕하세요 텍스트", StandardCharsets.UTF_16LE), "notes.txt"))
+                .isEqualTo(DocumentFormat.TEXT);
+        assertThat(DocumentFormat.sniff(utf16("# 제목", StandardCharsets.UTF_16BE), "notes.md"))
+                .isEqualTo(DocumentFormat.MARKDOWN);
+        assertThat(DocumentFormat.sniff(utf16("<html><body>본문</body></html>", StandardCharsets.UTF_16LE), "page.txt"))
+                .isEqualTo(DocumentFormat.HTML);
+    }
+
+    @Test
+    void rejectsBinaryWithoutByteOrderMark() {
+        byte[] utf16WithoutBom = "text".getBytes(StandardCharsets.UTF_16LE);
+
+        assertThat(DocumentFormat.sniff(utf16WithoutBom, "notes.txt")).isNull();
+    }
+
+    private static byte[] utf16(String text, Charset charset) {
+        byte[] bom = charset == StandardCharsets.UTF_16BE
+                ? new byte[] {(byte) 0xFE, (byte) 0xFF}
+                : new byte[] {(byte) 0xFF, (byte) 0xFE};
+        return withBom(bom, text.getBytes(charset));
+    }
+
+    private static byte[] withBom(byte[] bom, byte[] body) {
+        return ByteBuffer.allocate(bom.length + body.length).put(bom).put(body).array();
+    }
+}
@@ -0,0 +1,65 @@
+package com.docweave.server.doc.service.component.parser.extractor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.docweave.server.doc.service.component.parser.DocumentFormat;
+import com.docweave.server.doc.service.component.parser.HtmlToMarkdownConverter;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+class PlainTextExtractorTests {
+
+    private static final String TEXT = "# 설치 안내\n\n설정 파일을 확인합니다.";
+
+    private final PlainTextExtractor extractor = new PlainTextExtractor();
+
+    @Test
+    void decodesByByteOrderMark() throws Exception {
+        assertThat(extract(withBom(new byte[] {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF}, TEXT.getBytes(StandardCharsets.UTF_8))))
+                .isEqualTo(TEXT);
+        assertThat(extract(withBom(new byte[] {(byte) 0xFE, (byte) 0xFF}, TEXT.getBytes(StandardCharsets.UTF_16BE))))
+                .isEqualTo(TEXT);
+        assertThat(extract(withBom(new byte[] {(byte) 0xFF, (byte) 0xFE}, TEXT.getBytes(StandardCharsets.UTF_16LE))))
+                .isEqualTo(TEXT);
+    }
+
+    @Test
+    void fallsBackToMs949WhenNotUtf8() throws Exception {
+        assertThat(extract(TEXT.getBytes(StandardCharsets.UTF_8))).isEqualTo(TEXT);
+        assertThat(extract(TEXT.getBytes(Charset.forName("x-windows-949")))).isEqualTo(TEXT);
+    }
+
+    @Test
+    void extractsUtf16FileAcceptedBySniffing() throws Exception {
+        byte[] content = withBom(new byte[] {(byte) 0xFF, (byte) 0xFE}, TEXT.getBytes(StandardCharsets.UTF_16LE));
+
+        DocumentFormat format = DocumentFormat.sniff(content, "guide.md");
+
+        assertThat(extractor.supports(format)).isTrue();
+        assertThat(extract(content)).isEqualTo(TEXT);
+    }
+
+    @Test
+    void extractsUtf16HtmlAcceptedBySniffing() throws Exception {
+        String html = "<html><body><h1>설치 안내</h1><script>alert(1)</script><p>설정 파일을 확인합니다.</p></body></html>";
+        byte[] content = withBom(new byte[] {(byte) 0xFF, (byte) 0xFE}, html.getBytes(StandardCharsets.UTF_16LE));
+        HtmlExtractor htmlExtractor = new HtmlExtractor(new HtmlToMarkdownConverter());
+
+        DocumentFormat format = DocumentFormat.sniff(content, "guide.html");
+        String markdown = htmlExtractor.extractMarkdown(new ByteArrayResource(content));
+
+        assertThat(htmlExtractor.supports(format)).isTrue();
+        assertThat(markdown).contains("설치 안내", "설정 파일을 확인합니다.").doesNotContain("alert");
+    }
+
+    private String extract(byte[] content) throws Exception {
+        return extractor.extractMarkdown(new ByteArrayResource(content));
+    }
+
+    private static byte[] withBom(byte[] bom, byte[] body) {
+        return ByteBuffer.allocate(bom.length + body.length).put(bom).put(body).array();
+    }
+}
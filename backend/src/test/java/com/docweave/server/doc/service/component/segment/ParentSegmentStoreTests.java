@@ -0,0 +1,156 @@
+package com.docweave.server.doc.service.component.segment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.docweave.server.common.constant.RedisConstant;
+import com.docweave.server.doc.entity.ChatDocument;
+import com.docweave.server.doc.entity.ChatDocument.ProcessingStatus;
+import com.docweave.server.doc.repository.ChatDocumentRepository;
+import com.docweave.server.doc.service.component.compression.ParentContentCodec;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+// Parent 본문은 Postgres 컨테이너에서 읽고, Segment 생성은 호출 스레드에서 바로 실행
+@Testcontainers(disabledWithoutDocker = true)
+class ParentSegmentStoreTests {
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+
+    @TempDir
+    Path root;
+
+    private final ChatDocumentRepository chatDocumentRepository = mock(ChatDocumentRepository.class);
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword()));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS doc_content, doc_content_dictionary");
+        jdbcTemplate.execute("CREATE TABLE doc_content (id BIGINT PRIMARY KEY, document_id BIGINT, content TEXT, "
+                + "compressed_content BYTEA, content_size INTEGER)");
+        jdbcTemplate.execute("CREATE TABLE doc_content_dictionary (document_id BIGINT PRIMARY KEY, dictionary BYTEA NOT NULL)");
+        documentStatus(ProcessingStatus.COMPLETED);
+    }
+
+    @Test
+    void buildsSegmentFromPostgresOnMissAndReadsItBack() {
+        insertParent(1L, 10L, "첫 번째 Parent 본문");
+        insertParent(2L, 10L, "두 번째 Parent 😀");
+        ParentSegmentStore store = store(256, Long.MAX_VALUE);
+
+        assertThat(store.find(1L, List.of(1L, 2L))).isEmpty();
+        store.request(1L, 10L);
+
+        assertThat(read(store.find(1L, List.of(1L, 2L, 3L))))
+                .containsExactlyInAnyOrderEntriesOf(Map.of(1L, "첫 번째 Parent 본문", 2L, "두 번째 Parent 😀"));
+        assertThat(root.resolve("1").resolve("10.seg")).exists();
+
+        // 재시작한 노드는 디스크의 Segment 를 그대로 사용
+        assertThat(read(store(256, Long.MAX_VALUE).find(1L, List.of(2L)))).containsEntry(2L, "두 번째 Parent 😀");
+    }
+
+    @Test
+    void skipsDocumentsStillBeingProcessed() {
+        insertParent(1L, 10L, "분석 중인 본문");
+        documentStatus(ProcessingStatus.PROCESSING);
+        ParentSegmentStore store = store(256, Long.MAX_VALUE);
+
+        store.request(1L, 10L);
+
+        assertThat(store.find(1L, List.of(1L))).isEmpty();
+        assertThat(root.resolve("1")).doesNotExist();
+    }
+
+    @Test
+    void deletesSegmentsWithRoom() {
+        insertParent(1L, 10L, "삭제될 본문");
+        ParentSegmentStore store = store(256, Long.MAX_VALUE);
+        store.request(1L, 10L);
+        Supplier<String> pending = store.find(1L, List.of(1L)).get(1L);
+
+        store.dropRoom(1L);
+
+        assertThat(root.resolve("1")).doesNotExist();
+        assertThat(store.find(1L, List.of(1L))).isEmpty();
+        // 이미 받은 Supplier 는 기존 매핑으로 읽음
+        assertThat(pending.get()).isEqualTo("삭제될 본문");
+        verify(stringRedisTemplate).convertAndSend(RedisConstant.PARENT_SEGMENT_DROP_CHANNEL, "1");
+
+        // 삭제 직후 늦게 들어온 생성 요청은 무시
+        store.request(1L, 10L);
+        assertThat(root.resolve("1")).doesNotExist();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedRoomMapping() {
+        insertParent(1L, 10L, "1번 방 본문");
+        insertParent(2L, 20L, "2번 방 본문");
+        ParentSegmentStore store = store(1, Long.MAX_VALUE);
+        store.request(1L, 10L);
+        Supplier<String> pending = store.find(1L, List.of(1L)).get(1L);
+
+        // 두 번째 방을 열면 첫 번째 방이 닫힘 → 이미 받은 Supplier 는 기존 매핑으로 읽고, 다음 조회는 디스크에서 다시 엶
+        store.request(2L, 20L);
+
+        assertThat(pending.get()).isEqualTo("1번 방 본문");
+        assertThat(read(store.find(1L, List.of(1L)))).containsEntry(1L, "1번 방 본문");
+        assertThat(read(store.find(2L, List.of(2L)))).containsEntry(2L, "2번 방 본문");
+    }
+
+    @Test
+    void trimsLeastRecentlyUsedRoomOverDiskLimit() throws Exception {
+        insertParent(1L, 10L, "가".repeat(500));
+        insertParent(2L, 20L, "나".repeat(500));
+        ParentSegmentStore store = store(256, 2000);
+
+        store.request(1L, 10L);
+        long segmentBytes = Files.size(root.resolve("1").resolve("10.seg"));
+        store.request(2L, 20L);
+
+        assertThat(segmentBytes * 2).isGreaterThan(2000);
+        assertThat(root.resolve("1")).doesNotExist();
+        assertThat(root.resolve("2").resolve("20.seg")).exists();
+        assertThat(store.find(1L, List.of(1L))).isEmpty();
+    }
+
+    private ParentSegmentStore store(int maxOpenRooms, long maxDiskBytes) {
+        ParentContentCodec codec = new ParentContentCodec(null, "text", 6, 16384, 8, 256);
+        return new ParentSegmentStore(jdbcTemplate, chatDocumentRepository, codec, stringRedisTemplate, null,
+                Runnable::run, true, root.toString(), maxOpenRooms, 600000, maxDiskBytes, 3600000);
+    }
+
+    private void documentStatus(ProcessingStatus status) {
+        when(chatDocumentRepository.findById(any())).thenReturn(Optional.of(ChatDocument.builder().status(status).build()));
+    }
+
+    private void insertParent(Long id, Long documentId, String content) {
+        jdbcTemplate.update("INSERT INTO doc_content (id, document_id, content) VALUES (?, ?, ?)", id, documentId, content);
+    }
+
+    private Map<Long, String> read(Map<Long, Supplier<String>> found) {
+        Map<Long, String> contents = new HashMap<>();
+        found.forEach((id, supplier) -> contents.put(id, supplier.get()));
+        return contents;
+    }
+}
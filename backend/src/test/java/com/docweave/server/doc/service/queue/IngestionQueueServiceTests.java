@@ -0,0 +1,137 @@
+package com.docweave.server.doc.service.queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.docweave.server.common.constant.RedisConstant;
+import com.docweave.server.doc.dto.request.DocumentIngestionRequestDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+// Enqueue / Dequeue Lua Script 를 실제 Redis 에서 실행해 사용자 간 Round-robin 과 사용자 내부 우선순위(Aging) 확인
+@Testcontainers(disabledWithoutDocker = true)
+class IngestionQueueServiceTests {
+
+    private static final long SMALL_FILE = 100 * 1024;
+    private static final long LARGE_FILE = 50L * 1024 * 1024;
+    private static final long MAX_PENALTY_MS = 600_000;
+
+    @Container
+    static final GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate stringRedisTemplate;
+    private IngestionQueueService queueService;
+    private long documentId;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+
+        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        queueService = new IngestionQueueService(redisTemplate, stringRedisTemplate, new ObjectMapper(),
+                new SimpleMeterRegistry(), 10, 100, 2000, 1000, MAX_PENALTY_MS, 30000);
+        queueService.registerMetrics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.getConnection().serverCommands().flushAll();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void rotatesAcrossUsers() {
+        long now = System.currentTimeMillis();
+        queueService.pushAll(List.of(task(1L, SMALL_FILE, now), task(1L, SMALL_FILE, now + 1), task(1L, SMALL_FILE, now + 2)));
+        queueService.push(task(2L, SMALL_FILE, now + 3));
+        queueService.push(task(3L, SMALL_FILE, now + 4));
+
+        assertThat(pollUsers(5)).containsExactly(1L, 2L, 3L, 1L, 1L);
+        assertThat(queueService.poll()).isNull();
+    }
+
+    @Test
+    void prefersSmallerTaskWithinUser() {
+        long now = System.currentTimeMillis();
+        DocumentIngestionRequestDto large = task(1L, LARGE_FILE, now);
+        DocumentIngestionRequestDto small = task(1L, SMALL_FILE, now + 1);
+        queueService.pushAll(List.of(large, small));
+
+        assertThat(queueService.poll().getDocumentId()).isEqualTo(small.getDocumentId());
+        assertThat(queueService.poll().getDocumentId()).isEqualTo(large.getDocumentId());
+    }
+
+    @Test
+    void capsPenaltySoLongWaitingLargeTaskRunsFirst() {
+        long now = System.currentTimeMillis();
+        DocumentIngestionRequestDto large = task(1L, LARGE_FILE, now - MAX_PENALTY_MS - 10_000);
+        DocumentIngestionRequestDto small = task(1L, SMALL_FILE, now);
+        queueService.push(large);
+        queueService.push(small);
+
+        assertThat(queueService.poll().getDocumentId()).isEqualTo(large.getDocumentId());
+        assertThat(queueService.poll().getDocumentId()).isEqualTo(small.getDocumentId());
+    }
+
+    @Test
+    void keepsDepthAndActiveUsersConsistent() {
+        long now = System.currentTimeMillis();
+        queueService.pushAll(List.of(task(1L, SMALL_FILE, now), task(2L, LARGE_FILE, now), task(2L, SMALL_FILE, now)));
+
+        assertThat(stats("depth:SMALL")).isEqualTo("2");
+        assertThat(stats("depth:LARGE")).isEqualTo("1");
+        assertThat(stringRedisTemplate.opsForList().range(RedisConstant.DOC_INGESTION_ACTIVE_USERS, 0, -1))
+                .containsExactly("1", "2");
+
+        pollUsers(3);
+
+        assertThat(stats("depth:SMALL")).isEqualTo("0");
+        assertThat(stats("depth:LARGE")).isEqualTo("0");
+        assertThat(stringRedisTemplate.opsForList().size(RedisConstant.DOC_INGESTION_ACTIVE_USERS)).isZero();
+        assertThat(stringRedisTemplate.opsForSet().size(RedisConstant.DOC_INGESTION_ACTIVE_USER_SET)).isZero();
+    }
+
+    private List<Long> pollUsers(int count) {
+        List<Long> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            users.add(queueService.poll().getUserId());
+        }
+        return users;
+    }
+
+    private String stats(String field) {
+        Object value = stringRedisTemplate.opsForHash().get(RedisConstant.DOC_INGESTION_STATS, field);
+        return value != null ? value.toString() : null;
+    }
+
+    private DocumentIngestionRequestDto task(Long userId, long fileSize, long enqueuedAt) {
+        return DocumentIngestionRequestDto.builder()
+                .documentId(++documentId)
+                .roomId(userId)
+                .userId(userId)
+                .fileSize(fileSize)
+                .enqueuedAt(enqueuedAt)
+                .originalFileName("doc-" + documentId + ".pdf")
+                .build();
+    }
+}
@@ -81,7 +81,7 @@ function App() {
             }
 
             toast.dismiss(loadingToast);
-            toast.success("PDF 분석을 시작합니다.");
+            toast.success("문서 분석을 시작합니다.");
 
         } catch (error) {
             toast.dismiss(loadingToast);
@@ -150,6 +150,10 @@ function App() {
                 await animateTyping(responseData.answer);
             }
 
+            if (responseData && responseData.coverage) {
+                toast(`📄 ${responseData.coverage}`);
+            }
+
             setMessages(prev => {
                 const newMessages = [...prev];
                 const lastMsg = newMessages[newMessages.length - 1];
@@ -310,7 +314,7 @@ function App() {
 
             <input
                 type="file"
-                accept=".pdf"
+                accept=".pdf,.docx,.html,.htm,.md,.markdown,.txt"
                 ref={fileInputRef}
                 onChange={handleUpload}
                 style={{ display: 'none' }}